@@ -0,0 +1,44 @@
+package com.chess.bench;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.perft.PerftPosition;
+import com.chess.engine.pieces.Piece;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Thread)
+public class BenchmarkPositions {
+    @Param({"KIWIPETE", "POSITION_4", "POSITION_5", "POSITION_6", "POSITION_3"})
+    public String position;
+
+    Board board;
+    List<Move> legalMoves;
+    List<Piece> pieces;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.board = PerftPosition.valueOf(this.position).createBoard();
+        this.legalMoves = ImmutableList.copyOf(this.board.currentPlayer().getLegalMoves());
+        final List<Piece> allPieces = new ArrayList<>(this.board.getWhitePieces());
+        allPieces.addAll(this.board.getBlackPieces());
+        this.pieces = ImmutableList.copyOf(allPieces);
+    }
+
+    Board.Builder createBuilder() {
+        final Board.Builder builder = new Board.Builder();
+        for (final Piece piece : this.pieces) {
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker(this.board.currentPlayer().getAlliance());
+        builder.setEnPassant(this.board.getEnPassantPawn());
+        return builder;
+    }
+}
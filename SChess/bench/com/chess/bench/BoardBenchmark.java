@@ -0,0 +1,44 @@
+package com.chess.bench;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Benchmark
+    public Board buildBoard(final BenchmarkPositions state) {
+        return state.createBuilder().build();
+    }
+
+    @Benchmark
+    public void executeMoves(final BenchmarkPositions state, final Blackhole blackhole) {
+        for (final Move move : state.legalMoves) {
+            blackhole.consume(move.execute());
+        }
+    }
+
+    @Benchmark
+    public void makeMoves(final BenchmarkPositions state, final Blackhole blackhole) {
+        for (final Move move : state.legalMoves) {
+            blackhole.consume(state.board.currentPlayer().makeMove(move));
+        }
+    }
+
+    @Benchmark
+    public void createMoves(final BenchmarkPositions state, final Blackhole blackhole) {
+        for (final Move move : state.legalMoves) {
+            blackhole.consume(Move.MoveFactory.createMove(state.board,
+                    move.getCurrentCoordinate(), move.getDestinationCoordinate()));
+        }
+    }
+}
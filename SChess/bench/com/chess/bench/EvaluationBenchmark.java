@@ -0,0 +1,41 @@
+package com.chess.bench;
+
+import com.chess.engine.board.Position;
+import com.chess.engine.search.BoardEvaluator;
+import com.chess.engine.search.StandardBoardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+    private Position position;
+    private BoardEvaluator evaluator;
+
+    @Setup(Level.Trial)
+    public void setUp(final BenchmarkPositions state) {
+        this.position = new Position(state.board);
+        this.evaluator = new StandardBoardEvaluator();
+    }
+
+    @Benchmark
+    public int taperedScore() {
+        return this.position.getTaperedScore();
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return this.evaluator.evaluate(this.position);
+    }
+}
@@ -0,0 +1,58 @@
+package com.chess.bench;
+
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PackedMoveGenerationBenchmark {
+    private Position position;
+    private MoveList moves;
+
+    @Setup(Level.Trial)
+    public void setUp(final BenchmarkPositions state) {
+        this.position = new Position(state.board);
+        this.moves = new MoveList();
+    }
+
+    @Benchmark
+    public int generateLegalMoves() {
+        MoveGenerator.generateLegalMoves(this.position, this.moves);
+        return this.moves.size();
+    }
+
+    @Benchmark
+    public int generateLegalCaptures() {
+        MoveGenerator.generateLegalCaptures(this.position, this.moves);
+        return this.moves.size();
+    }
+
+    @Benchmark
+    public boolean hasLegalMoves() {
+        return MoveGenerator.hasLegalMoves(this.position);
+    }
+
+    @Benchmark
+    public int makeUnmakeMoves() {
+        MoveGenerator.generateLegalMoves(this.position, this.moves);
+        for (int i = 0; i < this.moves.size(); i++) {
+            this.position.makeMove(this.moves.get(i));
+            this.position.unmakeMove(this.moves.get(i));
+        }
+        return this.moves.size();
+    }
+}
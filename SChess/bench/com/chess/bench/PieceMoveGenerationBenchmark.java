@@ -0,0 +1,32 @@
+package com.chess.bench;
+
+import com.chess.engine.board.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceMoveGenerationBenchmark {
+    @Benchmark
+    public Collection<Move> sideToMoveLegalMoves(final BenchmarkPositions state) {
+        return state.board.calculateLegalMoves(state.board.currentPlayer().getAlliance());
+    }
+
+    @Benchmark
+    public Collection<Move> opponentLegalMoves(final BenchmarkPositions state) {
+        return state.board.calculateLegalMoves(state.board.currentPlayer().getOpponent().getAlliance());
+    }
+
+    @Benchmark
+    public boolean hasLegalMoves(final BenchmarkPositions state) {
+        return state.board.hasLegalMoves(state.board.currentPlayer().getAlliance());
+    }
+}
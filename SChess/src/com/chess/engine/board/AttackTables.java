@@ -0,0 +1,101 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+
+public final class AttackTables {
+    private AttackTables() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final int[][] KNIGHT_OFFSETS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+    private static final int[][] KING_OFFSETS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+    private static final int[][] WHITE_PAWN_OFFSETS = {{-1, -1}, {-1, 1}};
+    private static final int[][] BLACK_PAWN_OFFSETS = {{1, -1}, {1, 1}};
+
+    private static final long[] KNIGHT_ATTACKS = initAttacks(KNIGHT_OFFSETS);
+    private static final long[] KING_ATTACKS = initAttacks(KING_OFFSETS);
+    private static final long[] WHITE_PAWN_ATTACKS = initAttacks(WHITE_PAWN_OFFSETS);
+    private static final long[] BLACK_PAWN_ATTACKS = initAttacks(BLACK_PAWN_OFFSETS);
+    private static final long[] WHITE_PAWN_PUSHES = initPawnPushes(-1, BitBoards.SECOND_RANK);
+    private static final long[] BLACK_PAWN_PUSHES = initPawnPushes(1, BitBoards.SEVENTH_RANK);
+    private static final long[][] BETWEEN = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+    private static final long[][] LINE = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+
+    static {
+        for (int first = 0; first < BoardUtils.NUM_TILES; first++) {
+            for (int second = 0; second < BoardUtils.NUM_TILES; second++) {
+                if (first == second) {
+                    continue;
+                }
+                final long squares = BitBoards.squareMask(first) | BitBoards.squareMask(second);
+                if (BitBoards.isSet(MagicBitBoards.rookAttacks(first, BitBoards.EMPTY), second)) {
+                    BETWEEN[first][second] = MagicBitBoards.rookAttacks(first, squares) &
+                            MagicBitBoards.rookAttacks(second, squares);
+                    LINE[first][second] = (MagicBitBoards.rookAttacks(first, BitBoards.EMPTY) &
+                            MagicBitBoards.rookAttacks(second, BitBoards.EMPTY)) | squares;
+                } else if (BitBoards.isSet(MagicBitBoards.bishopAttacks(first, BitBoards.EMPTY), second)) {
+                    BETWEEN[first][second] = MagicBitBoards.bishopAttacks(first, squares) &
+                            MagicBitBoards.bishopAttacks(second, squares);
+                    LINE[first][second] = (MagicBitBoards.bishopAttacks(first, BitBoards.EMPTY) &
+                            MagicBitBoards.bishopAttacks(second, BitBoards.EMPTY)) | squares;
+                }
+            }
+        }
+    }
+
+    public static long knightAttacks(final int squareCoordinate) {
+        return KNIGHT_ATTACKS[squareCoordinate];
+    }
+
+    public static long kingAttacks(final int squareCoordinate) {
+        return KING_ATTACKS[squareCoordinate];
+    }
+
+    public static long pawnAttacks(final Alliance alliance, final int squareCoordinate) {
+        return alliance.isWhite() ? WHITE_PAWN_ATTACKS[squareCoordinate] : BLACK_PAWN_ATTACKS[squareCoordinate];
+    }
+
+    public static long pawnPushes(final Alliance alliance, final int squareCoordinate) {
+        return alliance.isWhite() ? WHITE_PAWN_PUSHES[squareCoordinate] : BLACK_PAWN_PUSHES[squareCoordinate];
+    }
+
+    public static long between(final int firstSquare, final int secondSquare) {
+        return BETWEEN[firstSquare][secondSquare];
+    }
+
+    public static long line(final int firstSquare, final int secondSquare) {
+        return LINE[firstSquare][secondSquare];
+    }
+
+    private static long[] initAttacks(final int[][] offsets) {
+        final long[] attacks = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            final int row = square / BoardUtils.NUM_TILES_PER_ROW;
+            final int column = square % BoardUtils.NUM_TILES_PER_ROW;
+            for (final int[] offset : offsets) {
+                final int targetRow = row + offset[0];
+                final int targetColumn = column + offset[1];
+                if (targetRow >= 0 && targetRow < BoardUtils.NUM_TILES_PER_ROW &&
+                        targetColumn >= 0 && targetColumn < BoardUtils.NUM_TILES_PER_ROW) {
+                    attacks[square] |= BitBoards.squareMask(targetRow * BoardUtils.NUM_TILES_PER_ROW + targetColumn);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long[] initPawnPushes(final int direction, final long startRank) {
+        final long[] pushes = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            final int singlePush = square + direction * BoardUtils.NUM_TILES_PER_ROW;
+            if (!BoardUtils.isValidCoordinate(singlePush)) {
+                continue;
+            }
+            pushes[square] = BitBoards.squareMask(singlePush);
+            if (BitBoards.isSet(startRank, square)) {
+                pushes[square] |= BitBoards.squareMask(singlePush + direction * BoardUtils.NUM_TILES_PER_ROW);
+            }
+        }
+        return pushes;
+    }
+}
@@ -0,0 +1,65 @@
+package com.chess.engine.board;
+
+public final class BitBoards {
+    private BitBoards() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    public static final long EMPTY = 0L;
+    public static final long ALL_SQUARES = ~0L;
+
+    public static final long FIRST_COLUMN = initColumn(0);
+    public static final long SECOND_COLUMN = initColumn(1);
+    public static final long SEVENTH_COLUMN = initColumn(6);
+    public static final long EIGHT_COLUMN = initColumn(7);
+
+    public static final long EIGHT_RANK = initRow(0);
+    public static final long SEVENTH_RANK = initRow(8);
+    public static final long SECOND_RANK = initRow(48);
+    public static final long FIRST_RANK = initRow(56);
+
+    public static final long LIGHT_SQUARES = initLightSquares();
+    public static final long DARK_SQUARES = ~LIGHT_SQUARES;
+
+    private static long initColumn(final int column) {
+        long mask = EMPTY;
+        for (int i = column; i < BoardUtils.NUM_TILES; i += BoardUtils.NUM_TILES_PER_ROW) {
+            mask |= squareMask(i);
+        }
+        return mask;
+    }
+
+    private static long initRow(final int rowStart) {
+        return 0xFFL << rowStart;
+    }
+
+    private static long initLightSquares() {
+        long mask = EMPTY;
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            if ((i / BoardUtils.NUM_TILES_PER_ROW + i % BoardUtils.NUM_TILES_PER_ROW) % 2 == 0) {
+                mask |= squareMask(i);
+            }
+        }
+        return mask;
+    }
+
+    public static long squareMask(final int squareCoordinate) {
+        return 1L << squareCoordinate;
+    }
+
+    public static boolean isSet(final long bitBoard, final int squareCoordinate) {
+        return (bitBoard & (1L << squareCoordinate)) != 0;
+    }
+
+    public static int firstSquare(final long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+
+    public static long clearFirst(final long bitBoard) {
+        return bitBoard & (bitBoard - 1);
+    }
+
+    public static int count(final long bitBoard) {
+        return Long.bitCount(bitBoard);
+    }
+}
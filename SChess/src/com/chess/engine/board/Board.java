@@ -10,41 +10,52 @@ import com.google.common.collect.Iterables;
 import java.util.*;
 
 public class Board {
-    private final List<Square> gameBoard;
-    private Collection<Piece> activeWhitePieces;
-    private Collection<Piece> activeBlackPieces;
+    private final Position position;
+    private final Square[] gameBoard;
+    private volatile Collection<Piece> activeWhitePieces;
+    private volatile Collection<Piece> activeBlackPieces;
 
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
+    private final Pawn enPassantPawn;
 
     private Board(final Builder builder) {
+        this.position = new Position(builder);
+        this.enPassantPawn = builder.enPassantPawn;
         this.gameBoard = createGameBoard(builder);
-        this.activeWhitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-        this.activeBlackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
-
-        final Collection<Move> whiteStandardLegalMoves =
-                calculateLegalMoves(this.activeWhitePieces);
-        final Collection<Move> blackStandardLegalMoves =
-                calculateLegalMoves(this.activeBlackPieces);
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+        this.whitePlayer = new WhitePlayer(this);
+        this.blackPlayer = new BlackPlayer(this);
         this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
     }
 
+    public Pawn getEnPassantPawn() {
+        return this.enPassantPawn;
+    }
+
     public Collection<Piece> getBlackPieces() {
-        return this.activeBlackPieces;
+        Collection<Piece> pieces = this.activeBlackPieces;
+        if (pieces == null) {
+            pieces = calculateActivePieces(Alliance.BLACK);
+            this.activeBlackPieces = pieces;
+        }
+        return pieces;
     }
 
     public Collection<Piece> getWhitePieces() {
-        return this.activeWhitePieces;
+        Collection<Piece> pieces = this.activeWhitePieces;
+        if (pieces == null) {
+            pieces = calculateActivePieces(Alliance.WHITE);
+            this.activeWhitePieces = pieces;
+        }
+        return pieces;
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = this.gameBoard[i].toString();
             builder.append(String.format("%3s", tileText));
             if (((i + 1) % BoardUtils.NUM_TILES_PER_ROW) == 0) {
                 builder.append("\n");
@@ -65,42 +76,82 @@ public class Board {
         return this.currentPlayer;
     }
 
-    private Collection<Move> calculateLegalMoves(Collection<Piece> activePieces) {
-        List<Move> legalMoves = new ArrayList<>();
-        for (final Piece piece : activePieces) {
-            legalMoves.addAll(piece.calculateLegalMoves(this));
+    public Collection<Move> calculateLegalMoves(final Alliance alliance) {
+        final Position sidePosition = this.position.getSideToMove() == alliance ?
+                this.position : this.position.withSideToMove(alliance);
+        final MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(sidePosition, moves);
+        final Move[] legalMoves = new Move[moves.size()];
+        for (int i = 0; i < moves.size(); i++) {
+            legalMoves[i] = Move.fromEncodedMove(this, moves.get(i));
         }
-
         return ImmutableList.copyOf(legalMoves);
     }
 
-    private static Collection<Piece> calculateActivePieces(final List<Square> gameBoard,
-                                                           final Alliance alliance) {
-        List<Piece> activePieces = new ArrayList<>();
-        for (final Square square : gameBoard) {
-            if (square.isSquareOccupied()) {
-                Piece pieceOnSquare = square.getPiece();
-                if (pieceOnSquare.getPieceAlliance() == alliance) {
-                    activePieces.add(pieceOnSquare);
-                }
-            }
-        }
+    public boolean hasLegalMoves(final Alliance alliance) {
+        return MoveGenerator.hasLegalMoves(this.position.getSideToMove() == alliance ?
+                this.position : this.position.withSideToMove(alliance));
+    }
 
+    public boolean hasInsufficientMaterial() {
+        return this.position.hasInsufficientMaterial();
+    }
 
+    private Collection<Piece> calculateActivePieces(final Alliance alliance) {
+        final List<Piece> activePieces = new ArrayList<>();
+        for (long pieces = this.position.getAlliancePieces(alliance); pieces != BitBoards.EMPTY;
+             pieces = BitBoards.clearFirst(pieces)) {
+            activePieces.add(this.gameBoard[BitBoards.firstSquare(pieces)].getPiece());
+        }
         return ImmutableList.copyOf(activePieces);
     }
 
+    Position getPosition() {
+        return this.position;
+    }
+
     public Square getSquare(final int squareCoordinate) {
-        return gameBoard.get(squareCoordinate);
+        return this.gameBoard[squareCoordinate];
     }
 
-    private static List<Square> createGameBoard(final Builder builder) {
+    public Piece getPiece(final int squareCoordinate) {
+        return this.gameBoard[squareCoordinate].getPiece();
+    }
+
+    public boolean isSquareOccupied(final int squareCoordinate) {
+        return this.position.isOccupied(squareCoordinate);
+    }
+
+    public long getZobristKey() {
+        return this.position.getZobristKey();
+    }
+
+    public long getOccupiedBitBoard() {
+        return this.position.getOccupied();
+    }
+
+    public long getAllianceBitBoard(final Alliance alliance) {
+        return this.position.getAlliancePieces(alliance);
+    }
+
+    public boolean isSquareAttacked(final int squareCoordinate, final Alliance byAlliance) {
+        return this.position.isSquareAttacked(squareCoordinate, byAlliance);
+    }
+
+    public long getAttackedSquares(final Alliance byAlliance) {
+        return this.position.attackedSquares(byAlliance);
+    }
+
+    public long getPieceBitBoard(final Alliance alliance, final Piece.PieceType pieceType) {
+        return this.position.getPieces(alliance, pieceType);
+    }
+
+    private static Square[] createGameBoard(final Builder builder) {
         final Square[] squares = new Square[BoardUtils.NUM_TILES];
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
             squares[i] = Square.createSquare(i, builder.boardConfig.get(i));
         }
-        return ImmutableList.copyOf(squares);
-
+        return squares;
     }
 
     public static Board createStandardBoard() {
@@ -109,8 +160,8 @@ public class Board {
         builder.setPiece(new Rook(Alliance.BLACK, 0));
         builder.setPiece(new Knight(Alliance.BLACK, 1));
         builder.setPiece(new Bishop(Alliance.BLACK, 2));
-        builder.setPiece(new King(Alliance.BLACK, 3));
-        builder.setPiece(new Queen(Alliance.BLACK, 4));
+        builder.setPiece(new Queen(Alliance.BLACK, 3));
+        builder.setPiece(new King(Alliance.BLACK, 4));
         builder.setPiece(new Bishop(Alliance.BLACK, 5));
         builder.setPiece(new Knight(Alliance.BLACK, 6));
         builder.setPiece(new Rook(Alliance.BLACK, 7));
@@ -134,11 +185,12 @@ public class Board {
         builder.setPiece(new Rook(Alliance.WHITE, 56));
         builder.setPiece(new Knight(Alliance.WHITE, 57));
         builder.setPiece(new Bishop(Alliance.WHITE, 58));
-        builder.setPiece(new King(Alliance.WHITE, 59));
-        builder.setPiece(new Queen(Alliance.WHITE, 60));
+        builder.setPiece(new Queen(Alliance.WHITE, 59));
+        builder.setPiece(new King(Alliance.WHITE, 60));
         builder.setPiece(new Bishop(Alliance.WHITE, 61));
         builder.setPiece(new Knight(Alliance.WHITE, 62));
         builder.setPiece(new Rook(Alliance.WHITE, 63));
+        builder.setMoveMaker(Alliance.WHITE);
 
         return builder.build();
 
@@ -160,7 +212,7 @@ public class Board {
         }
 
         public Builder setPiece(final Piece piece) {
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            this.boardConfig.put(piece.getPiecePosition(), PieceUtils.intern(piece));
             return this;
         }
 
@@ -174,7 +226,7 @@ public class Board {
         }
 
         public void setEnPassant(Pawn enPassantPawn) {
-            this.enPassantPawn = enPassantPawn;
+            this.enPassantPawn = enPassantPawn != null ? (Pawn) PieceUtils.intern(enPassantPawn) : null;
         }
     }
 
@@ -21,6 +21,8 @@ public class BoardUtils {
     public static final boolean[] SECOND_RANK = initRow(48);
     public static final boolean[] FIRST_RANK = initRow(56);
 
+    private static final String[] ALGEBRAIC_NOTATION = initializeAlgebraicNotation();
+
     private static boolean[] initRow(int rowNumber) {
         final boolean[] row = new boolean[NUM_TILES];
         do {
@@ -43,4 +45,16 @@ public class BoardUtils {
         return coordinate >= 0 && coordinate < NUM_TILES;
     }
 
+    public static String getPositionAtCoordinate(final int coordinate) {
+        return ALGEBRAIC_NOTATION[coordinate];
+    }
+
+    private static String[] initializeAlgebraicNotation() {
+        final String[] notation = new String[NUM_TILES];
+        for (int i = 0; i < NUM_TILES; i++) {
+            notation[i] = "" + (char) ('a' + i % NUM_TILES_PER_ROW) + (NUM_TILES_PER_ROW - i / NUM_TILES_PER_ROW);
+        }
+        return notation;
+    }
+
 }
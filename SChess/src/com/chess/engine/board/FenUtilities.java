@@ -0,0 +1,368 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.pieces.PieceUtils;
+
+public final class FenUtilities {
+    private FenUtilities() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final int HALF_MOVE_FIELD = 4;
+    private static final int FULL_MOVE_FIELD = 5;
+    private static final int MAX_CLOCK_DIGITS = 9;
+
+    public static Board createGameFromFEN(final CharSequence fen) {
+        final int length = fen.length();
+        final int placementEnd = skipField(fen, 0);
+        final int sideStart = skipSpaces(fen, placementEnd);
+        final int castlingStart = skipSpaces(fen, skipField(fen, sideStart));
+        final int castlingEnd = skipField(fen, castlingStart);
+        final int enPassantStart = skipSpaces(fen, castlingEnd);
+        final int enPassantEnd = skipField(fen, enPassantStart);
+        if (enPassantStart == length) {
+            throw invalidFEN(fen);
+        }
+        final int halfMoveStart = skipSpaces(fen, enPassantEnd);
+        if (halfMoveStart != length) {
+            final int halfMoveEnd = skipField(fen, halfMoveStart);
+            final int fullMoveStart = skipSpaces(fen, halfMoveEnd);
+            final int fullMoveEnd = skipField(fen, fullMoveStart);
+            if (parseNumber(fen, halfMoveStart, halfMoveEnd) < 0 ||
+                    parseNumber(fen, fullMoveStart, fullMoveEnd) < 1 ||
+                    skipSpaces(fen, fullMoveEnd) != length) {
+                throw invalidFEN(fen);
+            }
+        }
+        final Alliance moveMaker = parseMoveMaker(fen, sideStart);
+        final int castlingRights = parseCastlingRights(fen, castlingStart, castlingEnd);
+        final Board.Builder builder = new Board.Builder();
+        final long enemyPawns = parsePlacement(fen, placementEnd, castlingRights, moveMaker.getOpponent(), builder);
+        builder.setMoveMaker(moveMaker);
+        if (enPassantEnd - enPassantStart == 2) {
+            final int pawnCoordinate = parseSquare(fen, enPassantStart) -
+                    moveMaker.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            if (!BoardUtils.isValidCoordinate(pawnCoordinate) || !BitBoards.isSet(enemyPawns, pawnCoordinate)) {
+                throw invalidFEN(fen);
+            }
+            builder.setEnPassant((Pawn) PieceUtils.getMovedPiece(PieceType.PAWN, moveMaker.getOpponent(), pawnCoordinate));
+        } else if (enPassantEnd - enPassantStart != 1 || fen.charAt(enPassantStart) != '-') {
+            throw invalidFEN(fen);
+        }
+        return builder.build();
+    }
+
+    public static int getHalfMoveClock(final CharSequence fen) {
+        return parseClock(fen, HALF_MOVE_FIELD, 0);
+    }
+
+    public static int getFullMoveNumber(final CharSequence fen) {
+        return parseClock(fen, FULL_MOVE_FIELD, 1);
+    }
+
+    public static String createFENFromGame(final Board board) {
+        return createFENFromGame(board, 0, 1);
+    }
+
+    public static String createFENFromGame(final Board board,
+                                           final int halfMoveClock,
+                                           final int fullMoveNumber) {
+        final StringBuilder builder = new StringBuilder(90);
+        appendFEN(board, halfMoveClock, fullMoveNumber, builder);
+        return builder.toString();
+    }
+
+    public static void appendFEN(final Board board,
+                                 final int halfMoveClock,
+                                 final int fullMoveNumber,
+                                 final StringBuilder builder) {
+        for (int row = 0; row < BoardUtils.NUM_TILES_PER_ROW; row++) {
+            int emptySquares = 0;
+            for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+                final Piece piece = board.getPiece(row * BoardUtils.NUM_TILES_PER_ROW + file);
+                if (piece == null) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) {
+                    builder.append((char) ('0' + emptySquares));
+                    emptySquares = 0;
+                }
+                builder.append(pieceChar(piece));
+            }
+            if (emptySquares > 0) {
+                builder.append((char) ('0' + emptySquares));
+            }
+            if (row < BoardUtils.NUM_TILES_PER_ROW - 1) {
+                builder.append('/');
+            }
+        }
+        builder.append(' ').append(board.currentPlayer().getAlliance().isWhite() ? 'w' : 'b').append(' ');
+        final int castlingStart = builder.length();
+        if (isUnmoved(board, 60, PieceType.KING, Alliance.WHITE)) {
+            appendIf(builder, isUnmoved(board, 63, PieceType.ROOK, Alliance.WHITE), 'K');
+            appendIf(builder, isUnmoved(board, 56, PieceType.ROOK, Alliance.WHITE), 'Q');
+        }
+        if (isUnmoved(board, 4, PieceType.KING, Alliance.BLACK)) {
+            appendIf(builder, isUnmoved(board, 7, PieceType.ROOK, Alliance.BLACK), 'k');
+            appendIf(builder, isUnmoved(board, 0, PieceType.ROOK, Alliance.BLACK), 'q');
+        }
+        appendIf(builder, builder.length() == castlingStart, '-');
+        builder.append(' ');
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if (enPassantPawn != null) {
+            final int enPassantSquare = enPassantPawn.getPiecePosition() -
+                    enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            builder.append((char) ('a' + enPassantSquare % BoardUtils.NUM_TILES_PER_ROW))
+                    .append((char) ('8' - enPassantSquare / BoardUtils.NUM_TILES_PER_ROW));
+        } else {
+            builder.append('-');
+        }
+        builder.append(' ').append(halfMoveClock).append(' ').append(fullMoveNumber);
+    }
+
+    private static long parsePlacement(final CharSequence fen,
+                                       final int placementEnd,
+                                       final int castlingRights,
+                                       final Alliance enemy,
+                                       final Board.Builder builder) {
+        long enemyPawns = BitBoards.EMPTY;
+        long castlingPieces = BitBoards.EMPTY;
+        int whiteKings = 0;
+        int blackKings = 0;
+        int row = 0;
+        int file = 0;
+        for (int i = 0; i < placementEnd; i++) {
+            final char c = fen.charAt(i);
+            if (c == '/') {
+                if (file != BoardUtils.NUM_TILES_PER_ROW || ++row == BoardUtils.NUM_TILES_PER_ROW) {
+                    throw invalidFEN(fen);
+                }
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+                if (file > BoardUtils.NUM_TILES_PER_ROW) {
+                    throw invalidFEN(fen);
+                }
+            } else {
+                if (file == BoardUtils.NUM_TILES_PER_ROW) {
+                    throw invalidFEN(fen);
+                }
+                final int squareCoordinate = row * BoardUtils.NUM_TILES_PER_ROW + file;
+                final Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+                final PieceType pieceType = pieceType(fen, Character.toUpperCase(c));
+                if (pieceType == PieceType.PAWN &&
+                        (BoardUtils.EIGHT_RANK[squareCoordinate] || BoardUtils.FIRST_RANK[squareCoordinate])) {
+                    throw invalidFEN(fen);
+                }
+                if (pieceType == PieceType.KING) {
+                    if (alliance.isWhite()) {
+                        whiteKings++;
+                    } else {
+                        blackKings++;
+                    }
+                }
+                final boolean isFirstMove = isFirstMove(pieceType, alliance, squareCoordinate, castlingRights);
+                if (isFirstMove && pieceType != PieceType.PAWN) {
+                    castlingPieces |= BitBoards.squareMask(squareCoordinate);
+                }
+                builder.setPiece(PieceUtils.getPiece(pieceType, alliance, squareCoordinate, isFirstMove));
+                if (pieceType == PieceType.PAWN && alliance == enemy) {
+                    enemyPawns |= BitBoards.squareMask(squareCoordinate);
+                }
+                file++;
+            }
+        }
+        if (row != BoardUtils.NUM_TILES_PER_ROW - 1 || file != BoardUtils.NUM_TILES_PER_ROW ||
+                whiteKings != 1 || blackKings != 1 || castlingPieces != castlingSquares(castlingRights)) {
+            throw invalidFEN(fen);
+        }
+        return enemyPawns;
+    }
+
+    private static PieceType pieceType(final CharSequence fen, final char pieceChar) {
+        switch (pieceChar) {
+            case 'P':
+                return PieceType.PAWN;
+            case 'N':
+                return PieceType.KNIGHT;
+            case 'B':
+                return PieceType.BISHOP;
+            case 'R':
+                return PieceType.ROOK;
+            case 'Q':
+                return PieceType.QUEEN;
+            case 'K':
+                return PieceType.KING;
+            default:
+                throw invalidFEN(fen);
+        }
+    }
+
+    private static boolean isFirstMove(final PieceType pieceType,
+                                       final Alliance alliance,
+                                       final int squareCoordinate,
+                                       final int castlingRights) {
+        final boolean white = alliance.isWhite();
+        switch (pieceType) {
+            case PAWN:
+                return white ? BoardUtils.SECOND_RANK[squareCoordinate] : BoardUtils.SEVENTH_RANK[squareCoordinate];
+            case ROOK:
+                return (squareCoordinate == 63 && white && (castlingRights & Position.WHITE_KING_SIDE_CASTLE) != 0) ||
+                        (squareCoordinate == 56 && white && (castlingRights & Position.WHITE_QUEEN_SIDE_CASTLE) != 0) ||
+                        (squareCoordinate == 7 && !white && (castlingRights & Position.BLACK_KING_SIDE_CASTLE) != 0) ||
+                        (squareCoordinate == 0 && !white && (castlingRights & Position.BLACK_QUEEN_SIDE_CASTLE) != 0);
+            case KING:
+                if (white) {
+                    return squareCoordinate == 60 &&
+                            (castlingRights & (Position.WHITE_KING_SIDE_CASTLE | Position.WHITE_QUEEN_SIDE_CASTLE)) != 0;
+                }
+                return squareCoordinate == 4 &&
+                        (castlingRights & (Position.BLACK_KING_SIDE_CASTLE | Position.BLACK_QUEEN_SIDE_CASTLE)) != 0;
+            default:
+                return false;
+        }
+    }
+
+    private static Alliance parseMoveMaker(final CharSequence fen, final int sideStart) {
+        if (skipField(fen, sideStart) - sideStart == 1) {
+            final char side = fen.charAt(sideStart);
+            if (side == 'w') {
+                return Alliance.WHITE;
+            }
+            if (side == 'b') {
+                return Alliance.BLACK;
+            }
+        }
+        throw invalidFEN(fen);
+    }
+
+    private static int parseCastlingRights(final CharSequence fen, final int castlingStart, final int castlingEnd) {
+        if (castlingEnd - castlingStart == 1 && fen.charAt(castlingStart) == '-') {
+            return 0;
+        }
+        int castlingRights = 0;
+        for (int i = castlingStart; i < castlingEnd; i++) {
+            switch (fen.charAt(i)) {
+                case 'K':
+                    castlingRights |= Position.WHITE_KING_SIDE_CASTLE;
+                    break;
+                case 'Q':
+                    castlingRights |= Position.WHITE_QUEEN_SIDE_CASTLE;
+                    break;
+                case 'k':
+                    castlingRights |= Position.BLACK_KING_SIDE_CASTLE;
+                    break;
+                case 'q':
+                    castlingRights |= Position.BLACK_QUEEN_SIDE_CASTLE;
+                    break;
+                default:
+                    throw invalidFEN(fen);
+            }
+        }
+        if (castlingRights == 0) {
+            throw invalidFEN(fen);
+        }
+        return castlingRights;
+    }
+
+    private static long castlingSquares(final int castlingRights) {
+        long castlingSquares = BitBoards.EMPTY;
+        if ((castlingRights & Position.WHITE_KING_SIDE_CASTLE) != 0) {
+            castlingSquares |= BitBoards.squareMask(60) | BitBoards.squareMask(63);
+        }
+        if ((castlingRights & Position.WHITE_QUEEN_SIDE_CASTLE) != 0) {
+            castlingSquares |= BitBoards.squareMask(60) | BitBoards.squareMask(56);
+        }
+        if ((castlingRights & Position.BLACK_KING_SIDE_CASTLE) != 0) {
+            castlingSquares |= BitBoards.squareMask(4) | BitBoards.squareMask(7);
+        }
+        if ((castlingRights & Position.BLACK_QUEEN_SIDE_CASTLE) != 0) {
+            castlingSquares |= BitBoards.squareMask(4) | BitBoards.squareMask(0);
+        }
+        return castlingSquares;
+    }
+
+    private static int parseClock(final CharSequence fen, final int field, final int minimum) {
+        int start = 0;
+        for (int i = 0; i < field; i++) {
+            start = skipSpaces(fen, skipField(fen, start));
+        }
+        if (start == fen.length()) {
+            return minimum;
+        }
+        final int value = parseNumber(fen, start, skipField(fen, start));
+        if (value < minimum) {
+            throw invalidFEN(fen);
+        }
+        return value;
+    }
+
+    private static int parseNumber(final CharSequence fen, final int start, final int end) {
+        if (start == end || end - start > MAX_CLOCK_DIGITS) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            final char c = fen.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static int parseSquare(final CharSequence fen, final int start) {
+        final int file = fen.charAt(start) - 'a';
+        final int rank = fen.charAt(start + 1) - '1';
+        if (file < 0 || file >= BoardUtils.NUM_TILES_PER_ROW || rank < 0 || rank >= BoardUtils.NUM_TILES_PER_ROW) {
+            throw invalidFEN(fen);
+        }
+        return (BoardUtils.NUM_TILES_PER_ROW - 1 - rank) * BoardUtils.NUM_TILES_PER_ROW + file;
+    }
+
+    private static int skipField(final CharSequence fen, final int start) {
+        int i = start;
+        while (i < fen.length() && fen.charAt(i) != ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(final CharSequence fen, final int start) {
+        int i = start;
+        while (i < fen.length() && fen.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isUnmoved(final Board board,
+                                     final int squareCoordinate,
+                                     final PieceType pieceType,
+                                     final Alliance alliance) {
+        final Piece piece = board.getPiece(squareCoordinate);
+        return piece != null && piece.isFirstMove() &&
+                piece.getPieceType() == pieceType &&
+                piece.getPieceAlliance() == alliance;
+    }
+
+    private static void appendIf(final StringBuilder builder, final boolean condition, final char c) {
+        if (condition) {
+            builder.append(c);
+        }
+    }
+
+    private static char pieceChar(final Piece piece) {
+        final char pieceChar = piece.getPieceType().toString().charAt(0);
+        return piece.getPieceAlliance().isWhite() ? pieceChar : Character.toLowerCase(pieceChar);
+    }
+
+    private static IllegalArgumentException invalidFEN(final CharSequence fen) {
+        return new IllegalArgumentException("Invalid FEN: " + fen);
+    }
+}
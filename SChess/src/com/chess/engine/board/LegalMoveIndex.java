@@ -0,0 +1,106 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Collection;
+
+public final class LegalMoveIndex {
+    private static final int NO_PROMOTION = 0;
+    private static final int EMPTY_SLOT = 0;
+
+    private final long[] destinations;
+    private final int[] keys;
+    private final Move[] moves;
+    private final int mask;
+
+    public LegalMoveIndex(final Collection<Move> legalMoves) {
+        int capacity = 16;
+        while (capacity < legalMoves.size() * 4) {
+            capacity <<= 1;
+        }
+        this.destinations = new long[BoardUtils.NUM_TILES];
+        this.keys = new int[capacity];
+        this.moves = new Move[capacity];
+        this.mask = capacity - 1;
+        for (final Move move : legalMoves) {
+            final int from = move.getCurrentCoordinate();
+            final int to = move.getDestinationCoordinate();
+            this.destinations[from] |= BitBoards.squareMask(to);
+            putIfAbsent(createKey(from, to, promotionCode(move.getPromotionPiece())), move);
+            putIfAbsent(createKey(from, to, NO_PROMOTION), move);
+        }
+    }
+
+    public long getDestinations(final int currentCoordinate) {
+        return BoardUtils.isValidCoordinate(currentCoordinate) ?
+                this.destinations[currentCoordinate] : BitBoards.EMPTY;
+    }
+
+    public boolean contains(final int currentCoordinate, final int destinationCoordinate) {
+        return BoardUtils.isValidCoordinate(destinationCoordinate) &&
+                BitBoards.isSet(getDestinations(currentCoordinate), destinationCoordinate);
+    }
+
+    public boolean contains(final Move move) {
+        final Move legalMove = getMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(),
+                promotionCode(move.getPromotionPiece()));
+        return legalMove != Move.NULL_MOVE && legalMove.equals(move);
+    }
+
+    public Move getMove(final int currentCoordinate, final int destinationCoordinate) {
+        return getMove(currentCoordinate, destinationCoordinate, NO_PROMOTION);
+    }
+
+    public Move getMove(final int currentCoordinate,
+                        final int destinationCoordinate,
+                        final PieceType promotionType) {
+        return getMove(currentCoordinate, destinationCoordinate, promotionType.ordinal() + 1);
+    }
+
+    Move getMove(final int currentCoordinate,
+                 final int destinationCoordinate,
+                 final int promotionCode) {
+        if (!contains(currentCoordinate, destinationCoordinate)) {
+            return Move.NULL_MOVE;
+        }
+        final int key = createKey(currentCoordinate, destinationCoordinate, promotionCode);
+        for (int slot = hash(key); this.keys[slot] != EMPTY_SLOT; slot = (slot + 1) & this.mask) {
+            if (this.keys[slot] == key) {
+                return this.moves[slot];
+            }
+        }
+        return Move.NULL_MOVE;
+    }
+
+    static int promotionCode(final int encodedMove) {
+        return PackedMove.isPromotion(encodedMove) ?
+                Position.pieceTypeOf(PackedMove.getPromotionPiece(encodedMove)).ordinal() + 1 : NO_PROMOTION;
+    }
+
+    private static int promotionCode(final Piece promotionPiece) {
+        return promotionPiece != null ? promotionPiece.getPieceType().ordinal() + 1 : NO_PROMOTION;
+    }
+
+    private void putIfAbsent(final int key, final Move move) {
+        int slot = hash(key);
+        while (this.keys[slot] != EMPTY_SLOT) {
+            if (this.keys[slot] == key) {
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot] = key;
+        this.moves[slot] = move;
+    }
+
+    private int hash(final int key) {
+        return (key * 0x9E3779B9 >>> 16) & this.mask;
+    }
+
+    private static int createKey(final int currentCoordinate,
+                                 final int destinationCoordinate,
+                                 final int promotionCode) {
+        return ((currentCoordinate << 9) | (destinationCoordinate << 3) | promotionCode) + 1;
+    }
+}
@@ -0,0 +1,138 @@
+package com.chess.engine.board;
+
+public final class MagicBitBoards {
+    private MagicBitBoards() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    private static final long[] ROOK_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] ROOK_MAGICS = {
+            0x0080108000204001L, 0x4C40081000200042L, 0x8A00220010084080L, 0x0280080080100004L,
+            0x930010280100040AL, 0x0500210012081400L, 0x420000C801020004L, 0x0100030008214092L,
+            0x8000802040008000L, 0x2000400040201002L, 0x1005002005014055L, 0x0180801000800800L,
+            0x0000800400080080L, 0x22B2000200081004L, 0x2004001002212448L, 0x0A020001509E0401L,
+            0x0000248000400080L, 0x0000908020004004L, 0x0002020020801040L, 0x0410004040080400L,
+            0x9008010008110004L, 0x0204008004020080L, 0x00220C0018023003L, 0x8080020000904104L,
+            0x1000802080004000L, 0x01E0400040201006L, 0x0010100080200080L, 0x0040100480080082L,
+            0x441E080080040280L, 0x2C0E002200241108L, 0x0088810400420830L, 0x0401084A00140081L,
+            0x8822400020801480L, 0x2040804000802002L, 0x0008200841001100L, 0x4000500081800800L,
+            0x1808040280800800L, 0x0316001002000805L, 0x8000020001010004L, 0x6002800040800100L,
+            0x2100800040028020L, 0x23B0004020044000L, 0x0090001020008080L, 0x0009300100890020L,
+            0x00A8000400808009L, 0x0100020004008080L, 0x4020500288040001L, 0x0102041040820011L,
+            0x4108204080010500L, 0x0000804000201080L, 0x0800410010200100L, 0x081000804800D080L,
+            0x2000110004080100L, 0x0040040080020080L, 0x8408024110080400L, 0x0000540301D08E00L,
+            0x0204810202402116L, 0x4802050442201082L, 0x0408200A00408012L, 0x0021002005100009L,
+            0x1015000208000411L, 0x0882002890210402L, 0x00000208D0090804L, 0x0480082400410086L
+    };
+    private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final int[] ROOK_OFFSETS = new int[BoardUtils.NUM_TILES];
+    private static final long[] ROOK_ATTACKS;
+
+    private static final long[] BISHOP_MASKS = new long[BoardUtils.NUM_TILES];
+    private static final long[] BISHOP_MAGICS = {
+            0x6208104086041020L, 0x09042440821A02A2L, 0x2410010220290010L, 0x1084042080880808L,
+            0x0A04042300200000L, 0x0802021046060000L, 0x0010841032300001L, 0x2042C02205104020L,
+            0x0011900208083480L, 0x01A0100210A11206L, 0x0000900410A02090L, 0x0C38040420802118L,
+            0x2810020210145000L, 0x00010208020808C4L, 0xA000008088211020L, 0x9000C08408880420L,
+            0x0008802108810800L, 0x40040120080A0A60L, 0x0004008200240100L, 0x1048140082004000L,
+            0x000A000400940010L, 0x100C200602012048L, 0x0B04804600900801L, 0x04060020248C0422L,
+            0x4222228240040402L, 0x8208680060010100L, 0x0100820010002200L, 0x0022002008008020L,
+            0x0C01001001004021L, 0x003801C120806000L, 0x048400A004021101L, 0x00005E0801010100L,
+            0x00012809C0202018L, 0x4001042100022800L, 0x0000A02412481800L, 0x111A204800040120L,
+            0x0020408020020200L, 0x0108184100809000L, 0x82902102108900A0L, 0x0004084042008C00L,
+            0x0221300804802081L, 0x4201008884002001L, 0x0442008020800400L, 0x0190024010400206L,
+            0x0011010124001201L, 0x4040480281009620L, 0x0090100101080040L, 0x100810E080820200L,
+            0x0004008A10702110L, 0x0042004108084600L, 0x62280C249C100000L, 0x040620042A080000L,
+            0x1C4006124206088AL, 0x0000081010008800L, 0x4212101000808801L, 0x0021020082008000L,
+            0x800A004A08040200L, 0x0000011401010808L, 0x5840405042009040L, 0x000100008C842400L,
+            0x0000060110020220L, 0x0800189202100102L, 0xA440C01002808100L, 0x0841020801110010L
+    };
+    private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUM_TILES];
+    private static final int[] BISHOP_OFFSETS = new int[BoardUtils.NUM_TILES];
+    private static final long[] BISHOP_ATTACKS;
+
+    static {
+        ROOK_ATTACKS = initAttacks(ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS);
+        BISHOP_ATTACKS = initAttacks(BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+    }
+
+    public static long rookAttacks(final int squareCoordinate, final long occupied) {
+        return ROOK_ATTACKS[ROOK_OFFSETS[squareCoordinate] +
+                (int) (((occupied & ROOK_MASKS[squareCoordinate]) * ROOK_MAGICS[squareCoordinate]) >>>
+                        ROOK_SHIFTS[squareCoordinate])];
+    }
+
+    public static long bishopAttacks(final int squareCoordinate, final long occupied) {
+        return BISHOP_ATTACKS[BISHOP_OFFSETS[squareCoordinate] +
+                (int) (((occupied & BISHOP_MASKS[squareCoordinate]) * BISHOP_MAGICS[squareCoordinate]) >>>
+                        BISHOP_SHIFTS[squareCoordinate])];
+    }
+
+    public static long queenAttacks(final int squareCoordinate, final long occupied) {
+        return rookAttacks(squareCoordinate, occupied) | bishopAttacks(squareCoordinate, occupied);
+    }
+
+    private static long[] initAttacks(final int[][] directions,
+                                      final long[] masks,
+                                      final long[] magics,
+                                      final int[] shifts,
+                                      final int[] offsets) {
+        int tableSize = 0;
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            masks[square] = relevantOccupancy(square, directions);
+            shifts[square] = Long.SIZE - BitBoards.count(masks[square]);
+            offsets[square] = tableSize;
+            tableSize += 1 << BitBoards.count(masks[square]);
+        }
+        final long[] attackTable = new long[tableSize];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            long subset = BitBoards.EMPTY;
+            do {
+                final int index = (int) ((subset * magics[square]) >>> shifts[square]);
+                attackTable[offsets[square] + index] = slidingAttacks(square, subset, directions);
+                subset = (subset - masks[square]) & masks[square];
+            } while (subset != BitBoards.EMPTY);
+        }
+        return attackTable;
+    }
+
+    private static long relevantOccupancy(final int square, final int[][] directions) {
+        long mask = BitBoards.EMPTY;
+        for (final int[] direction : directions) {
+            int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            while (isOnBoard(row + direction[0], column + direction[1])) {
+                mask |= BitBoards.squareMask(row * BoardUtils.NUM_TILES_PER_ROW + column);
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static long slidingAttacks(final int square, final long occupied, final int[][] directions) {
+        long attacks = BitBoards.EMPTY;
+        for (final int[] direction : directions) {
+            int row = square / BoardUtils.NUM_TILES_PER_ROW + direction[0];
+            int column = square % BoardUtils.NUM_TILES_PER_ROW + direction[1];
+            while (isOnBoard(row, column)) {
+                final int target = row * BoardUtils.NUM_TILES_PER_ROW + column;
+                attacks |= BitBoards.squareMask(target);
+                if (BitBoards.isSet(occupied, target)) {
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int row, final int column) {
+        return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW &&
+                column >= 0 && column < BoardUtils.NUM_TILES_PER_ROW;
+    }
+}
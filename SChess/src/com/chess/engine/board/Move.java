@@ -3,12 +3,14 @@ package com.chess.engine.board;
 import com.chess.engine.board.Board.Builder;
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.PieceUtils;
 import com.chess.engine.pieces.Rook;
 
 public abstract class Move {
     final Board board;
     final Piece movedPiece;
     final int destinationCoordinate;
+    private int encodedMove;
 
     public static final Move NULL_MOVE = new NullMove();
 
@@ -42,6 +44,10 @@ public abstract class Move {
                 getMovedPiece() == otherMove.getMovedPiece();
     }
 
+    public Board getBoard() {
+        return this.board;
+    }
+
     public int getCurrentCoordinate() {
         return this.movedPiece.getPiecePosition();
     }
@@ -66,6 +72,79 @@ public abstract class Move {
         return null;
     }
 
+    public Piece getPromotionPiece() {
+        return null;
+    }
+
+    int getMoveFlag() {
+        return PackedMove.NORMAL;
+    }
+
+    public int getEncodedMove() {
+        int move = this.encodedMove;
+        if (move == PackedMove.NO_MOVE && this.movedPiece != null) {
+            final Piece attackedPiece = getAttackedPiece();
+            final Piece promotionPiece = getPromotionPiece();
+            move = PackedMove.create(getCurrentCoordinate(),
+                    this.destinationCoordinate,
+                    getMoveFlag(),
+                    Position.pieceIndex(this.movedPiece.getPieceAlliance(), this.movedPiece.getPieceType()),
+                    attackedPiece != null ?
+                            Position.pieceIndex(attackedPiece.getPieceAlliance(), attackedPiece.getPieceType()) :
+                            Position.NO_PIECE,
+                    promotionPiece != null ?
+                            Position.pieceIndex(promotionPiece.getPieceAlliance(), promotionPiece.getPieceType()) :
+                            Position.NO_PIECE);
+            this.encodedMove = move;
+        }
+        return move;
+    }
+
+    static Move fromEncodedMove(final Board board, final int encodedMove) {
+        final int from = PackedMove.getFrom(encodedMove);
+        final int to = PackedMove.getTo(encodedMove);
+        final Piece movedPiece = board.getPiece(from);
+        final Move move;
+        switch (PackedMove.getFlag(encodedMove)) {
+            case PackedMove.PAWN_JUMP:
+                move = new PawnJumpMove(board, movedPiece, to);
+                break;
+            case PackedMove.EN_PASSANT:
+                move = new PawnEnPassantAttackMove(board, movedPiece, to, board.getEnPassantPawn());
+                break;
+            case PackedMove.KING_SIDE_CASTLE:
+                move = new KingSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to + 1), to + 1, to - 1);
+                break;
+            case PackedMove.QUEEN_SIDE_CASTLE:
+                move = new QueenSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(to - 2), to - 2, to + 1);
+                break;
+            default:
+                final Piece capturedPiece = board.getPiece(to);
+                if (movedPiece.getPieceType() == Piece.PieceType.PAWN) {
+                    final Move pawnMove = capturedPiece != null ?
+                            new PawnAttackMove(board, movedPiece, to, capturedPiece) :
+                            new PawnMove(board, movedPiece, to);
+                    move = PackedMove.isPromotion(encodedMove) ?
+                            new PawnPromotion(pawnMove, PieceUtils.getMovedPiece(
+                                    Position.pieceTypeOf(PackedMove.getPromotionPiece(encodedMove)),
+                                    movedPiece.getPieceAlliance(), to)) :
+                            pawnMove;
+                } else {
+                    move = capturedPiece != null ?
+                            new AttackMove(board, movedPiece, to, capturedPiece) :
+                            new NormalMove(board, movedPiece, to);
+                }
+        }
+        move.encodedMove = encodedMove;
+        return move;
+    }
+
+    @Override
+    public String toString() {
+        return BoardUtils.getPositionAtCoordinate(getCurrentCoordinate()) +
+                BoardUtils.getPositionAtCoordinate(getDestinationCoordinate());
+    }
+
     public Board execute() {
         final Builder builder = new Builder();
         for (final Piece piece : this.board.currentPlayer().getActivePieces()) {
@@ -118,11 +197,6 @@ public abstract class Move {
             return super.equals(otherMove) && getAttackedPiece().equals(otherMove.getAttackedPiece());
         }
 
-        @Override
-        public Board execute() {
-            return null;
-        }
-
         @Override
         public boolean isAttack() {
             return true;
@@ -160,6 +234,101 @@ public abstract class Move {
                                        final Piece attackedPiece) {
             super(board, movedPiece, destinationCoordinate, attackedPiece);
         }
+
+        @Override
+        int getMoveFlag() {
+            return PackedMove.EN_PASSANT;
+        }
+
+        @Override
+        public Board execute() {
+            final Builder builder = new Builder();
+            for (final Piece piece : this.board.currentPlayer().getActivePieces()) {
+                if (!this.movedPiece.equals(piece)) {
+                    builder.setPiece(piece);
+                }
+            }
+            for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
+                if (!piece.equals(this.getAttackedPiece())) {
+                    builder.setPiece(piece);
+                }
+            }
+            builder.setPiece(this.movedPiece.movePiece(this));
+            builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+            return builder.build();
+        }
+    }
+
+    public static final class PawnPromotion extends Move {
+        final Move decoratedMove;
+        final Piece promotionPiece;
+
+        public PawnPromotion(final Move decoratedMove,
+                             final Piece promotionPiece) {
+            super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(), decoratedMove.getDestinationCoordinate());
+            this.decoratedMove = decoratedMove;
+            this.promotionPiece = promotionPiece;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.decoratedMove.hashCode() + 31 * this.promotionPiece.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PawnPromotion)) {
+                return false;
+            }
+            final PawnPromotion otherMove = (PawnPromotion) o;
+            return this.decoratedMove.equals(otherMove.decoratedMove) &&
+                    this.promotionPiece.equals(otherMove.promotionPiece);
+        }
+
+        @Override
+        public Board execute() {
+            final Board pawnMovedBoard = this.decoratedMove.execute();
+            final Builder builder = new Builder();
+            for (final Piece piece : pawnMovedBoard.currentPlayer().getActivePieces()) {
+                builder.setPiece(piece);
+            }
+            for (final Piece piece : pawnMovedBoard.currentPlayer().getOpponent().getActivePieces()) {
+                if (piece.getPiecePosition() != this.destinationCoordinate) {
+                    builder.setPiece(piece);
+                }
+            }
+            builder.setPiece(this.promotionPiece);
+            builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+            return builder.build();
+        }
+
+        @Override
+        public boolean isAttack() {
+            return this.decoratedMove.isAttack();
+        }
+
+        @Override
+        public Piece getAttackedPiece() {
+            return this.decoratedMove.getAttackedPiece();
+        }
+
+        @Override
+        public Piece getPromotionPiece() {
+            return this.promotionPiece;
+        }
+
+        @Override
+        int getMoveFlag() {
+            return this.decoratedMove.getMoveFlag();
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + this.promotionPiece.toString().toLowerCase();
+        }
     }
 
     public static final class PawnJumpMove extends Move {
@@ -169,6 +338,11 @@ public abstract class Move {
             super(board, movedPiece, destinationCoordinate);
         }
 
+        @Override
+        int getMoveFlag() {
+            return PackedMove.PAWN_JUMP;
+        }
+
         @Override
         public Board execute() {
             final Builder builder = new Builder();
@@ -223,8 +397,9 @@ public abstract class Move {
             for(final Piece piece: this.board.currentPlayer().getOpponent().getActivePieces()){
                 builder.setPiece(piece);
             }
-            builder.setPiece(this.movedPiece);
-            builder.setPiece(new Rook(this.casteRook.getPieceAlliance(), this.castleRookDestination)); //TO DO IS FIRST MOVE
+            builder.setPiece(this.movedPiece.movePiece(this));
+            builder.setPiece(PieceUtils.getMovedPiece(Piece.PieceType.ROOK, this.casteRook.getPieceAlliance(),
+                    this.castleRookDestination));
             // NORMAL PIECES
             builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
             return builder.build();
@@ -239,8 +414,13 @@ public abstract class Move {
                                   final int castleRookStartPosition,
                                   final int castleRookDestination) {
             super(board, movedPiece, destinationCoordinate, castleRook, castleRookStartPosition, castleRookDestination);
+        }
 
+        @Override
+        int getMoveFlag() {
+            return PackedMove.KING_SIDE_CASTLE;
         }
+
         @Override
         public String toString(){
             return "O-O";
@@ -256,6 +436,12 @@ public abstract class Move {
                                    final int castleRookDestination) {
             super(board, movedPiece, destinationCoordinate, castleRook, castleRookStartPosition, castleRookDestination);
         }
+
+        @Override
+        int getMoveFlag() {
+            return PackedMove.QUEEN_SIDE_CASTLE;
+        }
+
         @Override
         public String toString(){
             return "O-O-O";
@@ -271,6 +457,16 @@ public abstract class Move {
         public Board execute() {
             throw new RuntimeException("Cannot execute null move");
         }
+
+        @Override
+        public int getCurrentCoordinate() {
+            return -1;
+        }
+
+        @Override
+        public String toString() {
+            return "Null Move";
+        }
     }
 
     public static class MoveFactory {
@@ -281,13 +477,16 @@ public abstract class Move {
         public static Move createMove(final Board board,
                                       final int currentCoordinate,
                                       final int destinationCoordinate) {
-            for (final Move move : board.getAllLegalMoves()) {
-                if (move.getCurrentCoordinate() == currentCoordinate &&
-                        move.getDestinationCoordinate() == destinationCoordinate) {
-                    return move;
-                }
-            }
-            return NULL_MOVE;
+            final Move move = board.currentPlayer().getLegalMoveIndex()
+                    .getMove(currentCoordinate, destinationCoordinate);
+            return move != NULL_MOVE ? move : board.currentPlayer().getOpponent().getLegalMoveIndex()
+                    .getMove(currentCoordinate, destinationCoordinate);
+        }
+
+        public static Move createMove(final Board board, final int encodedMove) {
+            final Move move = board.currentPlayer().getLegalMoveIndex().getMove(PackedMove.getFrom(encodedMove),
+                    PackedMove.getTo(encodedMove), LegalMoveIndex.promotionCode(encodedMove));
+            return move.getEncodedMove() == encodedMove ? move : NULL_MOVE;
         }
     }
 }
@@ -0,0 +1,356 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class MoveGenerator {
+    private MoveGenerator() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final long PROMOTION_SQUARES = BitBoards.EIGHT_RANK | BitBoards.FIRST_RANK;
+    private static final PieceType[] PROMOTION_TYPES = {PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT};
+
+    private static final long WHITE_KING_SIDE_PATH = BitBoards.squareMask(61) | BitBoards.squareMask(62);
+    private static final long WHITE_QUEEN_SIDE_PATH = BitBoards.squareMask(57) | BitBoards.squareMask(58) |
+            BitBoards.squareMask(59);
+    private static final long BLACK_KING_SIDE_PATH = BitBoards.squareMask(5) | BitBoards.squareMask(6);
+    private static final long BLACK_QUEEN_SIDE_PATH = BitBoards.squareMask(1) | BitBoards.squareMask(2) |
+            BitBoards.squareMask(3);
+
+    public static void generateLegalMoves(final Position position, final MoveList moves) {
+        moves.clear();
+        generateLegalMoves(position, moves, BitBoards.ALL_SQUARES, true, true);
+    }
+
+    public static void generateLegalCaptures(final Position position, final MoveList moves) {
+        moves.clear();
+        generateLegalMoves(position, moves, BitBoards.ALL_SQUARES, true, false);
+    }
+
+    public static void generateLegalQuietMoves(final Position position, final MoveList moves) {
+        moves.clear();
+        generateLegalMoves(position, moves, BitBoards.ALL_SQUARES, false, true);
+    }
+
+    public static boolean isLegalMove(final Position position, final int move, final MoveList scratch) {
+        if (move == PackedMove.NO_MOVE) {
+            return false;
+        }
+        final int from = PackedMove.getFrom(move);
+        final int movedPiece = position.getPieceOn(from);
+        if (movedPiece != PackedMove.getMovedPiece(move) ||
+                Position.allianceOf(movedPiece) != position.getSideToMove()) {
+            return false;
+        }
+        scratch.clear();
+        generateLegalMoves(position, scratch, BitBoards.squareMask(from), true, true);
+        return scratch.contains(move);
+    }
+
+    public static boolean hasLegalMoves(final Position position) {
+        final Alliance us = position.getSideToMove();
+        final Alliance them = us.getOpponent();
+        final int kingSquare = BitBoards.firstSquare(position.getPieces(us, PieceType.KING));
+        final long occupied = position.getOccupied();
+        final long kinglessOccupancy = occupied ^ BitBoards.squareMask(kingSquare);
+        for (long destinations = AttackTables.kingAttacks(kingSquare) & ~position.getAlliancePieces(us);
+             destinations != BitBoards.EMPTY; destinations = BitBoards.clearFirst(destinations)) {
+            if (position.attackersOf(BitBoards.firstSquare(destinations), them, kinglessOccupancy) == BitBoards.EMPTY) {
+                return true;
+            }
+        }
+        final long checkers = position.attackersOf(kingSquare, them, occupied);
+        if (BitBoards.count(checkers) > 1) {
+            return false;
+        }
+        final long evasionMask = evasionMask(checkers, kingSquare);
+        final long pinned = pinnedPieces(position, us, kingSquare);
+        final long targets = ~position.getAlliancePieces(us) & evasionMask;
+        for (long knights = position.getPieces(us, PieceType.KNIGHT) & ~pinned; knights != BitBoards.EMPTY;
+             knights = BitBoards.clearFirst(knights)) {
+            if ((AttackTables.knightAttacks(BitBoards.firstSquare(knights)) & targets) != BitBoards.EMPTY) {
+                return true;
+            }
+        }
+        for (long bishops = position.getPieces(us, PieceType.BISHOP); bishops != BitBoards.EMPTY;
+             bishops = BitBoards.clearFirst(bishops)) {
+            final int from = BitBoards.firstSquare(bishops);
+            if ((MagicBitBoards.bishopAttacks(from, occupied) & targets & pinRay(pinned, kingSquare, from)) !=
+                    BitBoards.EMPTY) {
+                return true;
+            }
+        }
+        for (long rooks = position.getPieces(us, PieceType.ROOK); rooks != BitBoards.EMPTY;
+             rooks = BitBoards.clearFirst(rooks)) {
+            final int from = BitBoards.firstSquare(rooks);
+            if ((MagicBitBoards.rookAttacks(from, occupied) & targets & pinRay(pinned, kingSquare, from)) !=
+                    BitBoards.EMPTY) {
+                return true;
+            }
+        }
+        for (long queens = position.getPieces(us, PieceType.QUEEN); queens != BitBoards.EMPTY;
+             queens = BitBoards.clearFirst(queens)) {
+            final int from = BitBoards.firstSquare(queens);
+            if ((MagicBitBoards.queenAttacks(from, occupied) & targets & pinRay(pinned, kingSquare, from)) !=
+                    BitBoards.EMPTY) {
+                return true;
+            }
+        }
+        return hasLegalPawnMove(position, us, evasionMask, pinned, kingSquare);
+    }
+
+    private static boolean hasLegalPawnMove(final Position position,
+                                            final Alliance us,
+                                            final long evasionMask,
+                                            final long pinned,
+                                            final int kingSquare) {
+        final long free = ~position.getOccupied();
+        final long enemies = position.getAlliancePieces(us.getOpponent());
+        final int enPassantSquare = position.getEnPassantSquare();
+        final int push = us.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        for (long pawns = position.getPieces(us, PieceType.PAWN); pawns != BitBoards.EMPTY;
+             pawns = BitBoards.clearFirst(pawns)) {
+            final int from = BitBoards.firstSquare(pawns);
+            final long allowed = evasionMask & pinRay(pinned, kingSquare, from);
+            final long pushes = AttackTables.pawnPushes(us, from) & free;
+            if (BitBoards.isSet(pushes, from + push) && (pushes & allowed) != BitBoards.EMPTY) {
+                return true;
+            }
+            final long attacks = AttackTables.pawnAttacks(us, from);
+            if ((attacks & enemies & allowed) != BitBoards.EMPTY) {
+                return true;
+            }
+            if (enPassantSquare != Position.NO_SQUARE && BitBoards.isSet(attacks, enPassantSquare) &&
+                    isLegalEnPassant(position, from, enPassantSquare, enPassantSquare - push, kingSquare, us)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void generateLegalMoves(final Position position,
+                                           final MoveList moves,
+                                           final long fromMask,
+                                           final boolean captures,
+                                           final boolean quiets) {
+        final Alliance us = position.getSideToMove();
+        final int kingSquare = BitBoards.firstSquare(position.getPieces(us, PieceType.KING));
+        final long stageTargets = (captures ? position.getAlliancePieces(us.getOpponent()) : BitBoards.EMPTY) |
+                (quiets ? ~position.getOccupied() : BitBoards.EMPTY);
+        if (BitBoards.isSet(fromMask, kingSquare)) {
+            generateLegalKingMoves(position, moves, us, kingSquare, stageTargets);
+        }
+        final long checkers = position.attackersOf(kingSquare, us.getOpponent(), position.getOccupied());
+        if (BitBoards.count(checkers) > 1) {
+            return;
+        }
+        generatePieceMoves(position, moves, us, fromMask, evasionMask(checkers, kingSquare), stageTargets,
+                pinnedPieces(position, us, kingSquare), kingSquare, captures, quiets);
+        if (quiets && checkers == BitBoards.EMPTY && BitBoards.isSet(fromMask, kingSquare)) {
+            generateCastles(position, moves, us, kingSquare);
+        }
+    }
+
+    private static void generateLegalKingMoves(final Position position,
+                                               final MoveList moves,
+                                               final Alliance us,
+                                               final int kingSquare,
+                                               final long targets) {
+        final Alliance them = us.getOpponent();
+        final int king = position.getPieceOn(kingSquare);
+        final long kinglessOccupancy = position.getOccupied() ^ BitBoards.squareMask(kingSquare);
+        for (long destinations = AttackTables.kingAttacks(kingSquare) & ~position.getAlliancePieces(us) & targets;
+             destinations != BitBoards.EMPTY; destinations = BitBoards.clearFirst(destinations)) {
+            final int to = BitBoards.firstSquare(destinations);
+            if (position.attackersOf(to, them, kinglessOccupancy) == BitBoards.EMPTY) {
+                moves.add(PackedMove.create(kingSquare, to, PackedMove.NORMAL, king, position.getPieceOn(to),
+                        Position.NO_PIECE));
+            }
+        }
+    }
+
+    private static long evasionMask(final long checkers, final int kingSquare) {
+        return checkers == BitBoards.EMPTY ? BitBoards.ALL_SQUARES :
+                checkers | AttackTables.between(kingSquare, BitBoards.firstSquare(checkers));
+    }
+
+    public static long pinnedPieces(final Position position, final Alliance us, final int kingSquare) {
+        final Alliance them = us.getOpponent();
+        final long occupied = position.getOccupied();
+        final long queens = position.getPieces(them, PieceType.QUEEN);
+        final long snipers =
+                (MagicBitBoards.rookAttacks(kingSquare, BitBoards.EMPTY) & (position.getPieces(them, PieceType.ROOK) | queens)) |
+                (MagicBitBoards.bishopAttacks(kingSquare, BitBoards.EMPTY) & (position.getPieces(them, PieceType.BISHOP) | queens));
+        long pinned = BitBoards.EMPTY;
+        for (long remaining = snipers; remaining != BitBoards.EMPTY; remaining = BitBoards.clearFirst(remaining)) {
+            final long blockers = AttackTables.between(kingSquare, BitBoards.firstSquare(remaining)) & occupied;
+            if (BitBoards.count(blockers) == 1) {
+                pinned |= blockers & position.getAlliancePieces(us);
+            }
+        }
+        return pinned;
+    }
+
+    private static void generatePieceMoves(final Position position,
+                                           final MoveList moves,
+                                           final Alliance us,
+                                           final long fromMask,
+                                           final long evasionMask,
+                                           final long stageTargets,
+                                           final long pinned,
+                                           final int kingSquare,
+                                           final boolean captures,
+                                           final boolean quiets) {
+        final long targets = ~position.getAlliancePieces(us) & evasionMask & stageTargets;
+        final long occupied = position.getOccupied();
+        generatePawnMoves(position, moves, us, fromMask, evasionMask, pinned, kingSquare, captures, quiets);
+        for (long knights = position.getPieces(us, PieceType.KNIGHT) & ~pinned & fromMask;
+             knights != BitBoards.EMPTY; knights = BitBoards.clearFirst(knights)) {
+            final int from = BitBoards.firstSquare(knights);
+            addMoves(position, moves, from, AttackTables.knightAttacks(from) & targets);
+        }
+        for (long bishops = position.getPieces(us, PieceType.BISHOP) & fromMask; bishops != BitBoards.EMPTY;
+             bishops = BitBoards.clearFirst(bishops)) {
+            final int from = BitBoards.firstSquare(bishops);
+            addMoves(position, moves, from, MagicBitBoards.bishopAttacks(from, occupied) & targets &
+                    pinRay(pinned, kingSquare, from));
+        }
+        for (long rooks = position.getPieces(us, PieceType.ROOK) & fromMask; rooks != BitBoards.EMPTY;
+             rooks = BitBoards.clearFirst(rooks)) {
+            final int from = BitBoards.firstSquare(rooks);
+            addMoves(position, moves, from, MagicBitBoards.rookAttacks(from, occupied) & targets &
+                    pinRay(pinned, kingSquare, from));
+        }
+        for (long queens = position.getPieces(us, PieceType.QUEEN) & fromMask; queens != BitBoards.EMPTY;
+             queens = BitBoards.clearFirst(queens)) {
+            final int from = BitBoards.firstSquare(queens);
+            addMoves(position, moves, from, MagicBitBoards.queenAttacks(from, occupied) & targets &
+                    pinRay(pinned, kingSquare, from));
+        }
+    }
+
+    private static long pinRay(final long pinned, final int kingSquare, final int from) {
+        return BitBoards.isSet(pinned, from) ? AttackTables.line(kingSquare, from) : BitBoards.ALL_SQUARES;
+    }
+
+    private static void generatePawnMoves(final Position position,
+                                          final MoveList moves,
+                                          final Alliance us,
+                                          final long fromMask,
+                                          final long evasionMask,
+                                          final long pinned,
+                                          final int kingSquare,
+                                          final boolean captures,
+                                          final boolean quiets) {
+        final int pawn = Position.pieceIndex(us, PieceType.PAWN);
+        final long free = ~position.getOccupied();
+        final long enemies = position.getAlliancePieces(us.getOpponent());
+        final int enPassantSquare = position.getEnPassantSquare();
+        final int push = us.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        for (long pawns = position.getPieces(pawn) & fromMask; pawns != BitBoards.EMPTY;
+             pawns = BitBoards.clearFirst(pawns)) {
+            final int from = BitBoards.firstSquare(pawns);
+            final long allowed = evasionMask & pinRay(pinned, kingSquare, from);
+            final long pushes = AttackTables.pawnPushes(us, from) & free;
+            if (BitBoards.isSet(pushes, from + push)) {
+                final boolean isPromotion = BitBoards.isSet(PROMOTION_SQUARES, from + push);
+                if ((isPromotion ? captures : quiets) && BitBoards.isSet(allowed, from + push)) {
+                    addPawnMove(moves, us, from, from + push, pawn, Position.NO_PIECE);
+                }
+                if (quiets && BitBoards.isSet(pushes & allowed, from + 2 * push)) {
+                    moves.add(PackedMove.create(from, from + 2 * push, PackedMove.PAWN_JUMP, pawn,
+                            Position.NO_PIECE, Position.NO_PIECE));
+                }
+            }
+            if (!captures) {
+                continue;
+            }
+            final long attacks = AttackTables.pawnAttacks(us, from);
+            for (long targets = attacks & enemies & allowed; targets != BitBoards.EMPTY;
+                 targets = BitBoards.clearFirst(targets)) {
+                final int to = BitBoards.firstSquare(targets);
+                addPawnMove(moves, us, from, to, pawn, position.getPieceOn(to));
+            }
+            if (enPassantSquare != Position.NO_SQUARE && BitBoards.isSet(attacks, enPassantSquare)) {
+                if (isLegalEnPassant(position, from, enPassantSquare, enPassantSquare - push, kingSquare, us)) {
+                    moves.add(PackedMove.create(from, enPassantSquare, PackedMove.EN_PASSANT, pawn,
+                            Position.pieceIndex(us.getOpponent(), PieceType.PAWN), Position.NO_PIECE));
+                }
+            }
+        }
+    }
+
+    private static boolean isLegalEnPassant(final Position position,
+                                            final int from,
+                                            final int to,
+                                            final int capturedSquare,
+                                            final int kingSquare,
+                                            final Alliance us) {
+        final long capturedMask = BitBoards.squareMask(capturedSquare);
+        final long occupancy = (position.getOccupied() ^ BitBoards.squareMask(from) ^ capturedMask) |
+                BitBoards.squareMask(to);
+        return (position.attackersOf(kingSquare, us.getOpponent(), occupancy) & ~capturedMask) == BitBoards.EMPTY;
+    }
+
+    private static void addPawnMove(final MoveList moves,
+                                    final Alliance us,
+                                    final int from,
+                                    final int to,
+                                    final int pawn,
+                                    final int capturedPiece) {
+        if (BitBoards.isSet(PROMOTION_SQUARES, to)) {
+            for (final PieceType promotionType : PROMOTION_TYPES) {
+                moves.add(PackedMove.create(from, to, PackedMove.NORMAL, pawn, capturedPiece,
+                        Position.pieceIndex(us, promotionType)));
+            }
+        } else {
+            moves.add(PackedMove.create(from, to, PackedMove.NORMAL, pawn, capturedPiece, Position.NO_PIECE));
+        }
+    }
+
+    private static void addMoves(final Position position,
+                                 final MoveList moves,
+                                 final int from,
+                                 final long destinations) {
+        final int movedPiece = position.getPieceOn(from);
+        for (long remaining = destinations; remaining != BitBoards.EMPTY; remaining = BitBoards.clearFirst(remaining)) {
+            final int to = BitBoards.firstSquare(remaining);
+            moves.add(PackedMove.create(from, to, PackedMove.NORMAL, movedPiece, position.getPieceOn(to),
+                    Position.NO_PIECE));
+        }
+    }
+
+    private static void generateCastles(final Position position,
+                                        final MoveList moves,
+                                        final Alliance us,
+                                        final int kingSquare) {
+        final int castlingRights = position.getCastlingRights();
+        final boolean white = us.isWhite();
+        final int kingSide = white ? Position.WHITE_KING_SIDE_CASTLE : Position.BLACK_KING_SIDE_CASTLE;
+        final int queenSide = white ? Position.WHITE_QUEEN_SIDE_CASTLE : Position.BLACK_QUEEN_SIDE_CASTLE;
+        if ((castlingRights & (kingSide | queenSide)) == 0) {
+            return;
+        }
+        final Alliance them = us.getOpponent();
+        if (position.isSquareAttacked(kingSquare, them)) {
+            return;
+        }
+        final int king = position.getPieceOn(kingSquare);
+        final long occupied = position.getOccupied();
+        if ((castlingRights & kingSide) != 0 &&
+                (occupied & (white ? WHITE_KING_SIDE_PATH : BLACK_KING_SIDE_PATH)) == 0 &&
+                !position.isSquareAttacked(kingSquare + 1, them) &&
+                !position.isSquareAttacked(kingSquare + 2, them)) {
+            moves.add(PackedMove.create(kingSquare, kingSquare + 2, PackedMove.KING_SIDE_CASTLE, king,
+                    Position.NO_PIECE, Position.NO_PIECE));
+        }
+        if ((castlingRights & queenSide) != 0 &&
+                (occupied & (white ? WHITE_QUEEN_SIDE_PATH : BLACK_QUEEN_SIDE_PATH)) == 0 &&
+                !position.isSquareAttacked(kingSquare - 1, them) &&
+                !position.isSquareAttacked(kingSquare - 2, them)) {
+            moves.add(PackedMove.create(kingSquare, kingSquare - 2, PackedMove.QUEEN_SIDE_CASTLE, king,
+                    Position.NO_PIECE, Position.NO_PIECE));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chess.engine.board;
+
+public final class PackedMove {
+    private PackedMove() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    public static final int NO_MOVE = 0;
+
+    public static final int NORMAL = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int KING_SIDE_CASTLE = 3;
+    public static final int QUEEN_SIDE_CASTLE = 4;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int FLAG_MASK = 0x7;
+    private static final int PIECE_MASK = 0xF;
+
+    private static final int TO_SHIFT = 6;
+    private static final int FLAG_SHIFT = 12;
+    private static final int MOVED_PIECE_SHIFT = 15;
+    private static final int CAPTURED_PIECE_SHIFT = 19;
+    private static final int PROMOTION_PIECE_SHIFT = 23;
+
+    public static int create(final int fromCoordinate,
+                             final int toCoordinate,
+                             final int flag,
+                             final int movedPiece,
+                             final int capturedPiece,
+                             final int promotionPiece) {
+        return fromCoordinate |
+                (toCoordinate << TO_SHIFT) |
+                (flag << FLAG_SHIFT) |
+                (movedPiece << MOVED_PIECE_SHIFT) |
+                ((capturedPiece + 1) << CAPTURED_PIECE_SHIFT) |
+                ((promotionPiece + 1) << PROMOTION_PIECE_SHIFT);
+    }
+
+    public static int getFrom(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTo(final int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getFlag(final int move) {
+        return (move >>> FLAG_SHIFT) & FLAG_MASK;
+    }
+
+    public static int getMovedPiece(final int move) {
+        return (move >>> MOVED_PIECE_SHIFT) & PIECE_MASK;
+    }
+
+    public static int getCapturedPiece(final int move) {
+        return ((move >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK) - 1;
+    }
+
+    public static int getPromotionPiece(final int move) {
+        return ((move >>> PROMOTION_PIECE_SHIFT) & PIECE_MASK) - 1;
+    }
+
+    public static boolean isCapture(final int move) {
+        return getCapturedPiece(move) != Position.NO_PIECE;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return getPromotionPiece(move) != Position.NO_PIECE;
+    }
+
+    public static boolean isCastle(final int move) {
+        final int flag = getFlag(move);
+        return flag == KING_SIDE_CASTLE || flag == QUEEN_SIDE_CASTLE;
+    }
+
+    public static String toString(final int move) {
+        if (move == NO_MOVE) {
+            return "Null Move";
+        }
+        final String coordinates = BoardUtils.getPositionAtCoordinate(getFrom(move)) +
+                BoardUtils.getPositionAtCoordinate(getTo(move));
+        return isPromotion(move) ?
+                coordinates + Position.pieceTypeOf(getPromotionPiece(move)).toString().toLowerCase() :
+                coordinates;
+    }
+}
@@ -0,0 +1,421 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class Position {
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+
+    static final Alliance[] ALLIANCES = Alliance.values();
+    static final PieceType[] PIECE_TYPES = PieceType.values();
+    public static final int NUM_PIECE_TYPES = PIECE_TYPES.length;
+    public static final int NUM_PIECE_INDEXES = ALLIANCES.length * NUM_PIECE_TYPES;
+
+    public static final int WHITE_KING_SIDE_CASTLE = 1;
+    public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+    public static final int BLACK_KING_SIDE_CASTLE = 4;
+    public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+    private static final int ALL_CASTLES = 15;
+    private static final int[] CASTLING_RIGHTS_MASK = initCastlingRightsMask();
+
+    private static final int INITIAL_UNDO_CAPACITY = 128;
+
+    private final long[] pieceBitBoards;
+    private final long[] allianceBitBoards;
+    private long occupied;
+    private final int[] squarePieces;
+    private Alliance sideToMove;
+    private int enPassantSquare;
+    private int castlingRights;
+    private long zobristKey;
+    private long pawnKey;
+    private int middleGameScore;
+    private int endGameScore;
+    private int gamePhase;
+
+    private int undoCount;
+    private long[] undoZobristKeys;
+    private int[] undoCastlingRights;
+    private int[] undoEnPassantSquares;
+
+    Position(final Board.Builder builder) {
+        this.pieceBitBoards = new long[NUM_PIECE_INDEXES];
+        this.allianceBitBoards = new long[ALLIANCES.length];
+        this.squarePieces = new int[BoardUtils.NUM_TILES];
+        Arrays.fill(this.squarePieces, NO_PIECE);
+        for (final Piece piece : builder.boardConfig.values()) {
+            addPiece(pieceIndex(piece.getPieceAlliance(), piece.getPieceType()), piece.getPiecePosition());
+        }
+        this.sideToMove = builder.nextMoveMaker;
+        this.enPassantSquare = builder.enPassantPawn != null ?
+                builder.enPassantPawn.getPiecePosition() -
+                        (builder.enPassantPawn.getPieceAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW) :
+                NO_SQUARE;
+        this.castlingRights = calculateCastlingRights(builder.boardConfig);
+        this.zobristKey ^= stateKey();
+        initUndoStack(INITIAL_UNDO_CAPACITY);
+    }
+
+    public Position(final Board board) {
+        this(board.getPosition());
+    }
+
+    public Position(final Position other) {
+        this.pieceBitBoards = other.pieceBitBoards.clone();
+        this.allianceBitBoards = other.allianceBitBoards.clone();
+        this.occupied = other.occupied;
+        this.squarePieces = other.squarePieces.clone();
+        this.sideToMove = other.sideToMove;
+        this.enPassantSquare = other.enPassantSquare;
+        this.castlingRights = other.castlingRights;
+        this.zobristKey = other.zobristKey;
+        this.pawnKey = other.pawnKey;
+        this.middleGameScore = other.middleGameScore;
+        this.endGameScore = other.endGameScore;
+        this.gamePhase = other.gamePhase;
+        initUndoStack(INITIAL_UNDO_CAPACITY);
+    }
+
+    Position withSideToMove(final Alliance alliance) {
+        final Position position = new Position(this);
+        if (alliance != this.sideToMove) {
+            position.zobristKey ^= position.stateKey();
+            position.sideToMove = alliance;
+            position.enPassantSquare = NO_SQUARE;
+            position.zobristKey ^= position.stateKey();
+        }
+        return position;
+    }
+
+    private void initUndoStack(final int capacity) {
+        this.undoCount = 0;
+        this.undoCastlingRights = new int[capacity];
+        this.undoEnPassantSquares = new int[capacity];
+        this.undoZobristKeys = new long[capacity];
+    }
+
+    private static int[] initCastlingRightsMask() {
+        final int[] mask = new int[BoardUtils.NUM_TILES];
+        Arrays.fill(mask, ALL_CASTLES);
+        mask[60] &= ~(WHITE_KING_SIDE_CASTLE | WHITE_QUEEN_SIDE_CASTLE);
+        mask[63] &= ~WHITE_KING_SIDE_CASTLE;
+        mask[56] &= ~WHITE_QUEEN_SIDE_CASTLE;
+        mask[4] &= ~(BLACK_KING_SIDE_CASTLE | BLACK_QUEEN_SIDE_CASTLE);
+        mask[7] &= ~BLACK_KING_SIDE_CASTLE;
+        mask[0] &= ~BLACK_QUEEN_SIDE_CASTLE;
+        return mask;
+    }
+
+    private static int calculateCastlingRights(final Map<Integer, Piece> boardConfig) {
+        int castlingRights = 0;
+        if (isUnmoved(boardConfig, 60, PieceType.KING, Alliance.WHITE)) {
+            if (isUnmoved(boardConfig, 63, PieceType.ROOK, Alliance.WHITE)) {
+                castlingRights |= WHITE_KING_SIDE_CASTLE;
+            }
+            if (isUnmoved(boardConfig, 56, PieceType.ROOK, Alliance.WHITE)) {
+                castlingRights |= WHITE_QUEEN_SIDE_CASTLE;
+            }
+        }
+        if (isUnmoved(boardConfig, 4, PieceType.KING, Alliance.BLACK)) {
+            if (isUnmoved(boardConfig, 7, PieceType.ROOK, Alliance.BLACK)) {
+                castlingRights |= BLACK_KING_SIDE_CASTLE;
+            }
+            if (isUnmoved(boardConfig, 0, PieceType.ROOK, Alliance.BLACK)) {
+                castlingRights |= BLACK_QUEEN_SIDE_CASTLE;
+            }
+        }
+        return castlingRights;
+    }
+
+    private static boolean isUnmoved(final Map<Integer, Piece> boardConfig,
+                                     final int squareCoordinate,
+                                     final PieceType pieceType,
+                                     final Alliance alliance) {
+        final Piece piece = boardConfig.get(squareCoordinate);
+        return piece != null && piece.isFirstMove() &&
+                piece.getPieceType() == pieceType &&
+                piece.getPieceAlliance() == alliance;
+    }
+
+    public static int pieceIndex(final Alliance alliance, final PieceType pieceType) {
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    public static Alliance allianceOf(final int pieceIndex) {
+        return ALLIANCES[pieceIndex / NUM_PIECE_TYPES];
+    }
+
+    public static PieceType pieceTypeOf(final int pieceIndex) {
+        return PIECE_TYPES[pieceIndex % NUM_PIECE_TYPES];
+    }
+
+    private void addPiece(final int pieceIndex, final int squareCoordinate) {
+        final long squareMask = BitBoards.squareMask(squareCoordinate);
+        this.pieceBitBoards[pieceIndex] |= squareMask;
+        this.allianceBitBoards[pieceIndex / NUM_PIECE_TYPES] |= squareMask;
+        this.occupied |= squareMask;
+        this.squarePieces[squareCoordinate] = pieceIndex;
+        this.zobristKey ^= Zobrist.pieceKey(pieceIndex, squareCoordinate);
+        this.pawnKey ^= Zobrist.pawnKey(pieceIndex, squareCoordinate);
+        this.middleGameScore += PieceSquareTables.middleGameValue(pieceIndex, squareCoordinate);
+        this.endGameScore += PieceSquareTables.endGameValue(pieceIndex, squareCoordinate);
+        this.gamePhase += PieceSquareTables.phaseWeight(pieceIndex);
+    }
+
+    private void removePiece(final int squareCoordinate) {
+        final int pieceIndex = this.squarePieces[squareCoordinate];
+        final long squareMask = BitBoards.squareMask(squareCoordinate);
+        this.pieceBitBoards[pieceIndex] ^= squareMask;
+        this.allianceBitBoards[pieceIndex / NUM_PIECE_TYPES] ^= squareMask;
+        this.occupied ^= squareMask;
+        this.squarePieces[squareCoordinate] = NO_PIECE;
+        this.zobristKey ^= Zobrist.pieceKey(pieceIndex, squareCoordinate);
+        this.pawnKey ^= Zobrist.pawnKey(pieceIndex, squareCoordinate);
+        this.middleGameScore -= PieceSquareTables.middleGameValue(pieceIndex, squareCoordinate);
+        this.endGameScore -= PieceSquareTables.endGameValue(pieceIndex, squareCoordinate);
+        this.gamePhase -= PieceSquareTables.phaseWeight(pieceIndex);
+    }
+
+    private void movePiece(final int fromCoordinate, final int toCoordinate) {
+        final int pieceIndex = this.squarePieces[fromCoordinate];
+        final long fromToMask = BitBoards.squareMask(fromCoordinate) | BitBoards.squareMask(toCoordinate);
+        this.pieceBitBoards[pieceIndex] ^= fromToMask;
+        this.allianceBitBoards[pieceIndex / NUM_PIECE_TYPES] ^= fromToMask;
+        this.occupied ^= fromToMask;
+        this.squarePieces[fromCoordinate] = NO_PIECE;
+        this.squarePieces[toCoordinate] = pieceIndex;
+        this.zobristKey ^= Zobrist.pieceKey(pieceIndex, fromCoordinate) ^ Zobrist.pieceKey(pieceIndex, toCoordinate);
+        this.pawnKey ^= Zobrist.pawnKey(pieceIndex, fromCoordinate) ^ Zobrist.pawnKey(pieceIndex, toCoordinate);
+        this.middleGameScore += PieceSquareTables.middleGameValue(pieceIndex, toCoordinate) -
+                PieceSquareTables.middleGameValue(pieceIndex, fromCoordinate);
+        this.endGameScore += PieceSquareTables.endGameValue(pieceIndex, toCoordinate) -
+                PieceSquareTables.endGameValue(pieceIndex, fromCoordinate);
+    }
+
+    private long stateKey() {
+        long key = Zobrist.castlingKey(this.castlingRights);
+        if (this.sideToMove.isBlack()) {
+            key ^= Zobrist.sideToMoveKey();
+        }
+        if (canCaptureEnPassant()) {
+            key ^= Zobrist.enPassantKey(this.enPassantSquare);
+        }
+        return key;
+    }
+
+    private boolean canCaptureEnPassant() {
+        if (this.enPassantSquare == NO_SQUARE) {
+            return false;
+        }
+        return (AttackTables.pawnAttacks(this.sideToMove.getOpponent(), this.enPassantSquare) &
+                getPieces(this.sideToMove, PieceType.PAWN)) != 0;
+    }
+
+    public void makeMove(final Move move) {
+        makeMove(move.getEncodedMove());
+    }
+
+    public void unmakeMove(final Move move) {
+        unmakeMove(move.getEncodedMove());
+    }
+
+    public void makeMove(final int move) {
+        final int fromCoordinate = PackedMove.getFrom(move);
+        final int toCoordinate = PackedMove.getTo(move);
+        final int flag = PackedMove.getFlag(move);
+        pushUndo();
+        this.zobristKey ^= stateKey();
+        if (PackedMove.isCapture(move)) {
+            removePiece(capturedSquare(move, toCoordinate));
+        }
+        movePiece(fromCoordinate, toCoordinate);
+        if (flag == PackedMove.KING_SIDE_CASTLE) {
+            movePiece(toCoordinate + 1, toCoordinate - 1);
+        } else if (flag == PackedMove.QUEEN_SIDE_CASTLE) {
+            movePiece(toCoordinate - 2, toCoordinate + 1);
+        }
+        if (PackedMove.isPromotion(move)) {
+            removePiece(toCoordinate);
+            addPiece(PackedMove.getPromotionPiece(move), toCoordinate);
+        }
+        this.castlingRights &= CASTLING_RIGHTS_MASK[fromCoordinate] & CASTLING_RIGHTS_MASK[toCoordinate];
+        this.enPassantSquare = flag == PackedMove.PAWN_JUMP ? (fromCoordinate + toCoordinate) / 2 : NO_SQUARE;
+        this.sideToMove = this.sideToMove.getOpponent();
+        this.zobristKey ^= stateKey();
+    }
+
+    public void unmakeMove(final int move) {
+        this.undoCount--;
+        final int fromCoordinate = PackedMove.getFrom(move);
+        final int toCoordinate = PackedMove.getTo(move);
+        final int flag = PackedMove.getFlag(move);
+        this.sideToMove = this.sideToMove.getOpponent();
+        if (PackedMove.isPromotion(move)) {
+            removePiece(toCoordinate);
+            addPiece(PackedMove.getMovedPiece(move), toCoordinate);
+        }
+        if (flag == PackedMove.KING_SIDE_CASTLE) {
+            movePiece(toCoordinate - 1, toCoordinate + 1);
+        } else if (flag == PackedMove.QUEEN_SIDE_CASTLE) {
+            movePiece(toCoordinate + 1, toCoordinate - 2);
+        }
+        movePiece(toCoordinate, fromCoordinate);
+        if (PackedMove.isCapture(move)) {
+            addPiece(PackedMove.getCapturedPiece(move), capturedSquare(move, toCoordinate));
+        }
+        this.castlingRights = this.undoCastlingRights[this.undoCount];
+        this.enPassantSquare = this.undoEnPassantSquares[this.undoCount];
+        this.zobristKey = this.undoZobristKeys[this.undoCount];
+    }
+
+    private int capturedSquare(final int move, final int toCoordinate) {
+        return PackedMove.getFlag(move) == PackedMove.EN_PASSANT ?
+                toCoordinate - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW :
+                toCoordinate;
+    }
+
+    private void pushUndo() {
+        if (this.undoCount == this.undoZobristKeys.length) {
+            final int capacity = this.undoCount * 2;
+            this.undoCastlingRights = Arrays.copyOf(this.undoCastlingRights, capacity);
+            this.undoEnPassantSquares = Arrays.copyOf(this.undoEnPassantSquares, capacity);
+            this.undoZobristKeys = Arrays.copyOf(this.undoZobristKeys, capacity);
+        }
+        this.undoCastlingRights[this.undoCount] = this.castlingRights;
+        this.undoEnPassantSquares[this.undoCount] = this.enPassantSquare;
+        this.undoZobristKeys[this.undoCount] = this.zobristKey;
+        this.undoCount++;
+    }
+
+    public boolean isSquareAttacked(final int squareCoordinate, final Alliance byAlliance) {
+        return attackersOf(squareCoordinate, byAlliance, this.occupied) != BitBoards.EMPTY;
+    }
+
+    public long attackersOf(final int squareCoordinate, final Alliance byAlliance, final long occupancy) {
+        final long queens = getPieces(byAlliance, PieceType.QUEEN);
+        return (AttackTables.pawnAttacks(byAlliance.getOpponent(), squareCoordinate) &
+                getPieces(byAlliance, PieceType.PAWN)) |
+                (AttackTables.knightAttacks(squareCoordinate) & getPieces(byAlliance, PieceType.KNIGHT)) |
+                (AttackTables.kingAttacks(squareCoordinate) & getPieces(byAlliance, PieceType.KING)) |
+                (MagicBitBoards.bishopAttacks(squareCoordinate, occupancy) &
+                        (getPieces(byAlliance, PieceType.BISHOP) | queens)) |
+                (MagicBitBoards.rookAttacks(squareCoordinate, occupancy) &
+                        (getPieces(byAlliance, PieceType.ROOK) | queens));
+    }
+
+    public long attackedSquares(final Alliance byAlliance) {
+        long attacks = BitBoards.EMPTY;
+        for (long pawns = getPieces(byAlliance, PieceType.PAWN); pawns != BitBoards.EMPTY;
+             pawns = BitBoards.clearFirst(pawns)) {
+            attacks |= AttackTables.pawnAttacks(byAlliance, BitBoards.firstSquare(pawns));
+        }
+        for (long knights = getPieces(byAlliance, PieceType.KNIGHT); knights != BitBoards.EMPTY;
+             knights = BitBoards.clearFirst(knights)) {
+            attacks |= AttackTables.knightAttacks(BitBoards.firstSquare(knights));
+        }
+        final long queens = getPieces(byAlliance, PieceType.QUEEN);
+        for (long diagonals = getPieces(byAlliance, PieceType.BISHOP) | queens; diagonals != BitBoards.EMPTY;
+             diagonals = BitBoards.clearFirst(diagonals)) {
+            attacks |= MagicBitBoards.bishopAttacks(BitBoards.firstSquare(diagonals), this.occupied);
+        }
+        for (long orthogonals = getPieces(byAlliance, PieceType.ROOK) | queens; orthogonals != BitBoards.EMPTY;
+             orthogonals = BitBoards.clearFirst(orthogonals)) {
+            attacks |= MagicBitBoards.rookAttacks(BitBoards.firstSquare(orthogonals), this.occupied);
+        }
+        final long king = getPieces(byAlliance, PieceType.KING);
+        if (king != BitBoards.EMPTY) {
+            attacks |= AttackTables.kingAttacks(BitBoards.firstSquare(king));
+        }
+        return attacks;
+    }
+
+    public boolean isInCheck(final Alliance alliance) {
+        final long king = getPieces(alliance, PieceType.KING);
+        return king != BitBoards.EMPTY && isSquareAttacked(BitBoards.firstSquare(king), alliance.getOpponent());
+    }
+
+    public boolean hasInsufficientMaterial() {
+        if ((getPieces(Alliance.WHITE, PieceType.PAWN) | getPieces(Alliance.BLACK, PieceType.PAWN) |
+                getPieces(Alliance.WHITE, PieceType.ROOK) | getPieces(Alliance.BLACK, PieceType.ROOK) |
+                getPieces(Alliance.WHITE, PieceType.QUEEN) | getPieces(Alliance.BLACK, PieceType.QUEEN)) != BitBoards.EMPTY) {
+            return false;
+        }
+        final long knights = getPieces(Alliance.WHITE, PieceType.KNIGHT) | getPieces(Alliance.BLACK, PieceType.KNIGHT);
+        final long bishops = getPieces(Alliance.WHITE, PieceType.BISHOP) | getPieces(Alliance.BLACK, PieceType.BISHOP);
+        if (BitBoards.count(knights | bishops) <= 1) {
+            return true;
+        }
+        return knights == BitBoards.EMPTY &&
+                ((bishops & BitBoards.LIGHT_SQUARES) == BitBoards.EMPTY ||
+                        (bishops & BitBoards.DARK_SQUARES) == BitBoards.EMPTY);
+    }
+
+    public long getPieces(final Alliance alliance, final PieceType pieceType) {
+        return this.pieceBitBoards[pieceIndex(alliance, pieceType)];
+    }
+
+    public long getPieces(final int pieceIndex) {
+        return this.pieceBitBoards[pieceIndex];
+    }
+
+    public long getAlliancePieces(final Alliance alliance) {
+        return this.allianceBitBoards[alliance.ordinal()];
+    }
+
+    public long getOccupied() {
+        return this.occupied;
+    }
+
+    public int getPieceOn(final int squareCoordinate) {
+        return this.squarePieces[squareCoordinate];
+    }
+
+    public boolean isOccupied(final int squareCoordinate) {
+        return BitBoards.isSet(this.occupied, squareCoordinate);
+    }
+
+    public Alliance getSideToMove() {
+        return this.sideToMove;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    public int getMiddleGameScore() {
+        return this.middleGameScore;
+    }
+
+    public int getEndGameScore() {
+        return this.endGameScore;
+    }
+
+    public int getGamePhase() {
+        return this.gamePhase;
+    }
+
+    public int getTaperedScore() {
+        return PieceSquareTables.taper(this.middleGameScore, this.endGameScore, this.gamePhase);
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getPly() {
+        return this.undoCount;
+    }
+}
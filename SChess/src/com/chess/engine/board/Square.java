@@ -1,28 +1,45 @@
 package com.chess.engine.board;
 
+import com.chess.engine.pieces.Alliance;
 import com.chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableMap;
-
-import java.util.HashMap;
-import java.util.Map;
+import com.chess.engine.pieces.PieceUtils;
 
 public abstract class Square {
 
-    private static final Map<Integer, EmptySquare> EMPTY_SQUARES = createAllPossibleEmptySquares();
+    private static final EmptySquare[] EMPTY_SQUARES = createAllPossibleEmptySquares();
+    private static final OccupiedSquare[] OCCUPIED_SQUARES = createAllPossibleOccupiedSquares();
     protected final int squareCoordinate;
 
-    private static Map<Integer, EmptySquare> createAllPossibleEmptySquares() {
-        final Map<Integer, EmptySquare> emptySquareMap = new HashMap<>();
+    private static EmptySquare[] createAllPossibleEmptySquares() {
+        final EmptySquare[] emptySquares = new EmptySquare[BoardUtils.NUM_TILES];
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            emptySquareMap.put(i, new EmptySquare(i));
+            emptySquares[i] = new EmptySquare(i);
         }
-        return ImmutableMap.copyOf(emptySquareMap);
+        return emptySquares;
     }
 
-    public static Square createSquare(final int squareCoordinate, final Piece piece) {
-        return piece != null ? new OccupiedSquare(squareCoordinate, piece) :
-                EMPTY_SQUARES.get(squareCoordinate);
+    private static OccupiedSquare[] createAllPossibleOccupiedSquares() {
+        final OccupiedSquare[] occupiedSquares = new OccupiedSquare[PieceUtils.NUM_PIECES];
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Piece.PieceType pieceType : Piece.PieceType.values()) {
+                for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                    for (final boolean isFirstMove : new boolean[]{true, false}) {
+                        final Piece piece = PieceUtils.getPiece(pieceType, alliance, i, isFirstMove);
+                        occupiedSquares[PieceUtils.indexOf(piece)] = new OccupiedSquare(i, piece);
+                    }
+                }
+            }
+        }
+        return occupiedSquares;
+    }
 
+    public static Square createSquare(final int squareCoordinate, final Piece piece) {
+        if (piece == null) {
+            return EMPTY_SQUARES[squareCoordinate];
+        }
+        final OccupiedSquare occupiedSquare = OCCUPIED_SQUARES[PieceUtils.indexOf(piece)];
+        return occupiedSquare.getPiece() == piece && occupiedSquare.squareCoordinate == squareCoordinate ?
+                occupiedSquare : new OccupiedSquare(squareCoordinate, piece);
     }
 
     private Square(final int squareCoordinate) {
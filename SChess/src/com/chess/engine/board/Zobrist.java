@@ -0,0 +1,60 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Random;
+
+public final class Zobrist {
+    private Zobrist() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final long SEED = 0x4A43686573734BL;
+
+    private static final long[][] PIECE_SQUARE_KEYS = new long[Position.NUM_PIECE_INDEXES][BoardUtils.NUM_TILES];
+    private static final long[][] PAWN_SQUARE_KEYS = new long[Position.NUM_PIECE_INDEXES][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long SIDE_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        for (final long[] squareKeys : PIECE_SQUARE_KEYS) {
+            for (int i = 0; i < squareKeys.length; i++) {
+                squareKeys[i] = random.nextLong();
+            }
+        }
+        for (int i = 1; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        SIDE_TO_MOVE_KEY = random.nextLong();
+        for (final Alliance alliance : Alliance.values()) {
+            final int pawn = Position.pieceIndex(alliance, PieceType.PAWN);
+            PAWN_SQUARE_KEYS[pawn] = PIECE_SQUARE_KEYS[pawn];
+        }
+    }
+
+    public static long pieceKey(final int pieceIndex, final int squareCoordinate) {
+        return PIECE_SQUARE_KEYS[pieceIndex][squareCoordinate];
+    }
+
+    public static long pawnKey(final int pieceIndex, final int squareCoordinate) {
+        return PAWN_SQUARE_KEYS[pieceIndex][squareCoordinate];
+    }
+
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(final int enPassantSquare) {
+        return EN_PASSANT_KEYS[enPassantSquare % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    public static long sideToMoveKey() {
+        return SIDE_TO_MOVE_KEY;
+    }
+}
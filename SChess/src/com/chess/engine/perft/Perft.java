@@ -0,0 +1,166 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Position;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Perft {
+    private static final int DEFAULT_DEPTH = 3;
+    private static final int MAX_DEPTH = 32;
+
+    private final boolean bulkCounting;
+    private final PerftTable perftTable;
+
+    public Perft() {
+        this(true, null);
+    }
+
+    public Perft(final boolean bulkCounting, final PerftTable perftTable) {
+        this.bulkCounting = bulkCounting;
+        this.perftTable = perftTable;
+    }
+
+    public long perft(final Board board, final int depth) {
+        return perft(new Position(board), depth, MoveList.createStack(MAX_DEPTH));
+    }
+
+    private long perft(final Position position, final int depth, final MoveList[] moveLists) {
+        if (depth == 0) {
+            return 1L;
+        }
+        if (this.perftTable != null) {
+            final long cachedNodes = this.perftTable.probe(position.getZobristKey(), depth);
+            if (cachedNodes != PerftTable.MISS) {
+                return cachedNodes;
+            }
+        }
+        final MoveList moves = moveLists[depth];
+        MoveGenerator.generateLegalMoves(position, moves);
+        long nodes = 0;
+        if (this.bulkCounting && depth == 1) {
+            nodes = moves.size();
+        } else {
+            for (int i = 0; i < moves.size(); i++) {
+                final int move = moves.get(i);
+                position.makeMove(move);
+                nodes += perft(position, depth - 1, moveLists);
+                position.unmakeMove(move);
+            }
+        }
+        if (this.perftTable != null) {
+            this.perftTable.store(position.getZobristKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    public Map<String, Long> divide(final Board board, final int depth) {
+        final Position position = new Position(board);
+        final MoveList[] moveLists = MoveList.createStack(MAX_DEPTH);
+        final MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(position, moves);
+        final Map<String, Long> divide = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            position.makeMove(move);
+            divide.put(PackedMove.toString(move), perft(position, depth - 1, moveLists));
+            position.unmakeMove(move);
+        }
+        return divide;
+    }
+
+    public long parallelPerft(final Board board, final int depth, final ForkJoinPool pool) {
+        if (depth <= 1) {
+            return perft(board, depth);
+        }
+        return pool.invoke(new RootTask(new Position(board), depth));
+    }
+
+    @SuppressWarnings("serial")
+    private class RootTask extends RecursiveTask<Long> {
+        private final Position position;
+        private final int depth;
+
+        RootTask(final Position position, final int depth) {
+            this.position = position;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            final MoveList moves = new MoveList();
+            MoveGenerator.generateLegalMoves(this.position, moves);
+            final List<RecursiveTask<Long>> subtasks = new ArrayList<>();
+            for (int i = 0; i < moves.size(); i++) {
+                final Position nextPosition = new Position(this.position);
+                nextPosition.makeMove(moves.get(i));
+                subtasks.add(new RecursiveTask<Long>() {
+                    @Override
+                    protected Long compute() {
+                        return perft(nextPosition, depth - 1, MoveList.createStack(MAX_DEPTH));
+                    }
+                });
+            }
+            long nodes = 0;
+            for (final RecursiveTask<Long> subtask : invokeAll(subtasks)) {
+                nodes += subtask.join();
+            }
+            return nodes;
+        }
+    }
+
+    public static void main(final String[] args) {
+        int maxDepth = DEFAULT_DEPTH;
+        boolean parallel = false;
+        boolean bulkCounting = true;
+        PerftTable perftTable = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--parallel":
+                    parallel = true;
+                    break;
+                case "--no-bulk":
+                    bulkCounting = false;
+                    break;
+                case "--hash":
+                    perftTable = new PerftTable(Integer.parseInt(args[++i]));
+                    break;
+                default:
+                    maxDepth = Integer.parseInt(args[i]);
+            }
+        }
+        final Perft perft = new Perft(bulkCounting, perftTable);
+        final ForkJoinPool pool = parallel ? new ForkJoinPool() : null;
+        int failures = 0;
+        for (final PerftPosition position : PerftPosition.values()) {
+            final Board board = position.createBoard();
+            for (int depth = 1; depth <= Math.min(maxDepth, position.getMaxDepth()); depth++) {
+                final long start = System.nanoTime();
+                final long nodes = parallel ? perft.parallelPerft(board, depth, pool) : perft.perft(board, depth);
+                final long elapsedNanos = System.nanoTime() - start;
+                final boolean passed = nodes == position.getExpectedNodes(depth);
+                if (!passed) {
+                    failures++;
+                }
+                System.out.printf("%-10s depth %d  nodes %12d  expected %12d  %s  %8d ms  %10d nps%n",
+                        position, depth, nodes, position.getExpectedNodes(depth), passed ? "PASS" : "FAIL",
+                        elapsedNanos / 1_000_000, nodes * 1_000_000_000L / Math.max(1, elapsedNanos));
+            }
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+        System.out.println(failures == 0 ? "All perft counts match" : failures + " perft count(s) differ");
+        if (failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.player.HashTableUtils;
+
+public class PerftTable {
+    public static final long MISS = -1L;
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final long DEPTH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] table;
+    private final long indexMask;
+
+    public PerftTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes <= 0) {
+            throw new IllegalArgumentException("Perft table size must be positive: " + sizeInMegabytes);
+        }
+        final int numEntries = HashTableUtils.slotCount(sizeInMegabytes, LONGS_PER_ENTRY);
+        this.table = new long[numEntries * LONGS_PER_ENTRY];
+        this.indexMask = numEntries - 1;
+    }
+
+    public long probe(final long positionKey, final int depth) {
+        final long key = entryKey(positionKey, depth);
+        final int index = index(key);
+        final long nodes = this.table[index + 1];
+        return nodes != 0 && (this.table[index] ^ nodes) == key ? nodes : MISS;
+    }
+
+    public void store(final long positionKey, final int depth, final long nodes) {
+        final long key = entryKey(positionKey, depth);
+        final int index = index(key);
+        this.table[index] = key ^ nodes;
+        this.table[index + 1] = nodes;
+    }
+
+    private int index(final long key) {
+        return (int) (key & this.indexMask) * 2;
+    }
+
+    private static long entryKey(final long positionKey, final int depth) {
+        return positionKey + depth * DEPTH_MULTIPLIER;
+    }
+}
@@ -1,5 +1,6 @@
 package com.chess.engine.pieces;
 
+import com.chess.engine.board.BoardUtils;
 import com.chess.engine.player.BlackPlayer;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
@@ -21,6 +22,16 @@ public enum Alliance {
             return false;
         }
 
+        @Override
+        public Alliance getOpponent() {
+            return BLACK;
+        }
+
+        @Override
+        public boolean isPawnPromotionSquare(final int position) {
+            return BoardUtils.EIGHT_RANK[position];
+        }
+
         @Override
         public Player choosePlayer(WhitePlayer whitePlayer,
                                    BlackPlayer blackPlayer) {
@@ -43,6 +54,16 @@ public enum Alliance {
             return true;
         }
 
+        @Override
+        public Alliance getOpponent() {
+            return WHITE;
+        }
+
+        @Override
+        public boolean isPawnPromotionSquare(final int position) {
+            return BoardUtils.FIRST_RANK[position];
+        }
+
         @Override
         public Player choosePlayer(final WhitePlayer whitePlayer,
                                    final BlackPlayer blackPlayer) {
@@ -53,6 +74,8 @@ public enum Alliance {
     public abstract int getDirection();
     public abstract boolean isWhite();
     public abstract boolean isBlack();
+    public abstract Alliance getOpponent();
+    public abstract boolean isPawnPromotionSquare(int position);
 
     public abstract Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer);
 }
@@ -1,10 +1,7 @@
 package com.chess.engine.pieces;
 
-import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
 
-import java.util.Collection;
-
 
 public abstract class Piece {
 
@@ -16,11 +13,12 @@ public abstract class Piece {
 
     public Piece(final PieceType pieceType,
                  final Alliance alliance,
-                 final int piecePosition) {
+                 final int piecePosition,
+                 final boolean isFirstMove) {
         this.pieceType = pieceType;
         this.piecePosition = piecePosition;
         this.pieceAlliance = alliance;
-        this.isFirstMove = false;
+        this.isFirstMove = isFirstMove;
         this.cachedHashCode = computeHashCode();
     }
 
@@ -48,6 +46,10 @@ public abstract class Piece {
         return pieceAlliance;
     }
 
+    public int getPieceValue() {
+        return this.pieceType.getPieceValue();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -67,13 +69,11 @@ public abstract class Piece {
         return this.cachedHashCode;
     }
 
-    public abstract Collection<Move> calculateLegalMoves(final Board board);
-
     public abstract Piece movePiece(Move move);
 
     public enum PieceType {
 
-        BISHOP("B") {
+        BISHOP("B", 330) {
             @Override
             public boolean isKing() {
                 return false;
@@ -86,7 +86,7 @@ public abstract class Piece {
         },
 
 
-        KING("K") {
+        KING("K", 10000) {
             @Override
             public boolean isKing() {
                 return true;
@@ -97,7 +97,7 @@ public abstract class Piece {
             }
         },
 
-        KNIGHT("N") {
+        KNIGHT("N", 320) {
             @Override
             public boolean isKing() {
                 return false;
@@ -108,7 +108,7 @@ public abstract class Piece {
             }
         },
 
-        PAWN("P") {
+        PAWN("P", 100) {
             @Override
             public boolean isKing() {
                 return false;
@@ -119,7 +119,7 @@ public abstract class Piece {
             }
         },
 
-        QUEEN("Q") {
+        QUEEN("Q", 900) {
             @Override
             public boolean isKing() {
                 return false;
@@ -130,7 +130,7 @@ public abstract class Piece {
             }
         },
 
-        ROOK("R") {
+        ROOK("R", 500) {
             @Override
             public boolean isKing() {
                 return false;
@@ -142,9 +142,15 @@ public abstract class Piece {
         };
 
         private String pieceName;
+        private final int pieceValue;
 
-        PieceType(String pieceName) {
+        PieceType(final String pieceName, final int pieceValue) {
             this.pieceName = pieceName;
+            this.pieceValue = pieceValue;
+        }
+
+        public int getPieceValue() {
+            return this.pieceValue;
         }
 
 
@@ -0,0 +1,78 @@
+package com.chess.engine.pieces;
+
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class PieceUtils {
+    private PieceUtils() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    public static final int NUM_PIECES = Alliance.values().length * PieceType.values().length * BoardUtils.NUM_TILES * 2;
+
+    private static final Piece[] ALL_PIECES = createAllPossiblePieces();
+
+    public static Piece getPiece(final PieceType pieceType,
+                                 final Alliance alliance,
+                                 final int piecePosition,
+                                 final boolean isFirstMove) {
+        return ALL_PIECES[indexOf(pieceType, alliance, piecePosition, isFirstMove)];
+    }
+
+    public static Piece getMovedPiece(final PieceType pieceType,
+                                      final Alliance alliance,
+                                      final int piecePosition) {
+        return ALL_PIECES[indexOf(pieceType, alliance, piecePosition, false)];
+    }
+
+    public static Piece intern(final Piece piece) {
+        return ALL_PIECES[indexOf(piece)];
+    }
+
+    public static int indexOf(final Piece piece) {
+        return indexOf(piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(), piece.isFirstMove());
+    }
+
+    public static int indexOf(final PieceType pieceType,
+                              final Alliance alliance,
+                              final int piecePosition,
+                              final boolean isFirstMove) {
+        return (((alliance.ordinal() * PieceType.values().length + pieceType.ordinal()) * BoardUtils.NUM_TILES +
+                piecePosition) << 1) | (isFirstMove ? 1 : 0);
+    }
+
+    private static Piece[] createAllPossiblePieces() {
+        final Piece[] pieces = new Piece[NUM_PIECES];
+        for (final Alliance alliance : Alliance.values()) {
+            for (final PieceType pieceType : PieceType.values()) {
+                for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                    pieces[indexOf(pieceType, alliance, i, true)] = createPiece(pieceType, alliance, i, true);
+                    pieces[indexOf(pieceType, alliance, i, false)] = createPiece(pieceType, alliance, i, false);
+                }
+            }
+        }
+        return pieces;
+    }
+
+    private static Piece createPiece(final PieceType pieceType,
+                                     final Alliance alliance,
+                                     final int piecePosition,
+                                     final boolean isFirstMove) {
+        switch (pieceType) {
+            case BISHOP:
+                return new Bishop(alliance, piecePosition, isFirstMove);
+            case KING:
+                return new King(alliance, piecePosition, isFirstMove);
+            case KNIGHT:
+                return new Knight(alliance, piecePosition, isFirstMove);
+            case PAWN:
+                return new Pawn(alliance, piecePosition, isFirstMove);
+            case QUEEN:
+                return new Queen(alliance, piecePosition, isFirstMove);
+            case ROOK:
+                return new Rook(alliance, piecePosition, isFirstMove);
+            default:
+                throw new RuntimeException("Invalid piece type: " + pieceType);
+        }
+    }
+}
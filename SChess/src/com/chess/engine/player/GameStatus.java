@@ -0,0 +1,36 @@
+package com.chess.engine.player;
+
+public enum GameStatus {
+    IN_PROGRESS {
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+    CHECK {
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+    CHECKMATE {
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    },
+    STALEMATE {
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    },
+    INSUFFICIENT_MATERIAL {
+        @Override
+        public boolean isGameOver() {
+            return true;
+        }
+    };
+
+    public abstract boolean isGameOver();
+}
@@ -0,0 +1,17 @@
+package com.chess.engine.player;
+
+public final class HashTableUtils {
+    private HashTableUtils() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    private static final long MAX_TABLE_LENGTH = 1L << 30;
+
+    public static int slotCount(final int sizeInMegabytes, final int longsPerSlot) {
+        final long maxSlots = ((long) sizeInMegabytes << 20) / ((long) longsPerSlot * Long.BYTES);
+        if (maxSlots < 1) {
+            throw new IllegalArgumentException("Hash table too small for one slot: " + sizeInMegabytes + " MB");
+        }
+        return (int) Math.min(Long.highestOneBit(maxSlots), Long.highestOneBit(MAX_TABLE_LENGTH / longsPerSlot));
+    }
+}
@@ -1,83 +1,117 @@
 package com.chess.engine.player;
 
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.LegalMoveIndex;
 import com.chess.engine.board.Move;
 import com.chess.engine.pieces.Alliance;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
 
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean isInCheck;
+    private volatile Collection<Move> legalMoves;
+    private volatile LegalMoveIndex legalMoveIndex;
+    private volatile Long attackedSquares;
+    private volatile Boolean isInCheck;
+    private volatile GameStatus gameStatus;
 
-    public Player(final Board board,
-                  final Collection<Move> legalMoves,
-                  final Collection<Move> opponentMoves) {
+    public Player(final Board board) {
         this.board = board;
         this.playerKing = EstablishKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));//??
-        this.isInCheck = !Player.CalculateAttacksOnSquare(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
     }
 
-    protected static Collection<Move> CalculateAttacksOnSquare(int piecePosition, Collection<Move> opponentMoves) {
-        final List<Move> attackMoves = new ArrayList<>();
-        for (final Move move : opponentMoves) {
-            if (piecePosition == move.getDestinationCoordinate()) {
-                attackMoves.add(move);
-            }
+    public long getAttackedSquares() {
+        Long attacks = this.attackedSquares;
+        if (attacks == null) {
+            attacks = this.board.getAttackedSquares(getAlliance());
+            this.attackedSquares = attacks;
         }
-        return ImmutableList.copyOf(attackMoves);
+        return attacks;
     }
+
     public Collection<Move> getLegalMoves(){
-        return this.legalMoves;
+        Collection<Move> moves = this.legalMoves;
+        if (moves == null) {
+            moves = this.board.calculateLegalMoves(getAlliance());
+            this.legalMoves = moves;
+        }
+        return moves;
+    }
+
+    public LegalMoveIndex getLegalMoveIndex() {
+        LegalMoveIndex moveIndex = this.legalMoveIndex;
+        if (moveIndex == null) {
+            moveIndex = new LegalMoveIndex(getLegalMoves());
+            this.legalMoveIndex = moveIndex;
+        }
+        return moveIndex;
     }
 
     protected boolean hasEscapedMoves() {
-        for (final Move move : this.legalMoves) {
-            final MoveTransition moveTransition = makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                return true;
-            }
+        final Collection<Move> moves = this.legalMoves;
+        return moves != null ? !moves.isEmpty() : this.board.hasLegalMoves(getAlliance());
+    }
+
+    public GameStatus getGameStatus() {
+        GameStatus status = this.gameStatus;
+        if (status == null) {
+            status = calculateGameStatus();
+            this.gameStatus = status;
         }
-        return false;
+        return status;
+    }
+
+    private GameStatus calculateGameStatus() {
+        final boolean inCheck = isInCheck();
+        if (!hasEscapedMoves()) {
+            return inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+        if (this.board.hasInsufficientMaterial()) {
+            return GameStatus.INSUFFICIENT_MATERIAL;
+        }
+        return inCheck ? GameStatus.CHECK : GameStatus.IN_PROGRESS;
     }
 
     private King EstablishKing() {
-        for (final Piece piece : getActivePieces()) {
-            if (piece.getPieceType().isKing()) {
-                return (King) piece;
-            }
+        final long king = this.board.getPieceBitBoard(getAlliance(), Piece.PieceType.KING);
+        if (king == BitBoards.EMPTY) {
+            throw new RuntimeException("Should not reach here, not a valid board");
         }
-        throw new RuntimeException("Should not reach here, not a valid board");
+        return (King) this.board.getPiece(BitBoards.firstSquare(king));
     }
     public King getPlayerKing(){
         return this.playerKing;
     }
 
     public boolean isMoveLegal(final Move move) {
-        return this.legalMoves.contains(move);
+        return getLegalMoveIndex().contains(move);
     }
 
     public boolean isInCheckMate() {
-        return this.isInCheck && !hasEscapedMoves();
+        return getGameStatus() == GameStatus.CHECKMATE;
     }
 
 
     public boolean isInStaleMate() {
-        return !this.isInCheck && !hasEscapedMoves();
+        return getGameStatus() == GameStatus.STALEMATE;
+    }
+
+    public boolean hasInsufficientMaterial() {
+        return getGameStatus() == GameStatus.INSUFFICIENT_MATERIAL;
     }
 
     public boolean isInCheck() {
-        return this.isInCheck;
+        Boolean inCheck = this.isInCheck;
+        if (inCheck == null) {
+            inCheck = this.board.isSquareAttacked(this.playerKing.getPiecePosition(), getAlliance().getOpponent());
+            this.isInCheck = inCheck;
+        }
+        return inCheck;
     }
 
     public boolean isCastled() {
@@ -88,20 +122,11 @@ public abstract class Player {
         if (!isMoveLegal(move)) {
             return new MoveTransition(this.board, move, MoveStatus.ILLEGAL_MOVE);
         }
-        final Board transitionBoard = move.execute();
-        final Collection<Move> kingAttacks = Player.CalculateAttacksOnSquare
-                (transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-                        transitionBoard.currentPlayer().getLegalMoves());
-        if(!kingAttacks.isEmpty()){
-            return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
-        }
-
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
 
     public abstract Collection<Piece> getActivePieces();
     public abstract Alliance getAlliance();
     public abstract Player getOpponent();
-    protected abstract Collection<Move> calculateKingCastles(Collection<Move> currentLegals, Collection<Move> opponentsLegals);
 
 }
@@ -0,0 +1,147 @@
+package com.chess.engine.player;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final long NO_ENTRY = 0L;
+    public static final int NO_MOVE = 0;
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int ENTRIES_PER_BUCKET = 4;
+    private static final int MAX_AGE = 63;
+
+    private static final int SCORE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int AGE_SHIFT = 58;
+
+    private final long[] table;
+    private final long bucketMask;
+    private int age;
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes <= 0) {
+            throw new IllegalArgumentException("Transposition table size must be positive: " + sizeInMegabytes);
+        }
+        final int numBuckets = HashTableUtils.slotCount(sizeInMegabytes, LONGS_PER_ENTRY * ENTRIES_PER_BUCKET);
+        this.table = new long[numBuckets * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY];
+        this.bucketMask = numBuckets - 1;
+        this.age = 0;
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & MAX_AGE;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.age = 0;
+    }
+
+    public long probe(final long key) {
+        final int bucketStart = bucketStart(key);
+        for (int i = bucketStart; i < bucketStart + ENTRIES_PER_BUCKET * 2; i += 2) {
+            final long data = this.table[i + 1];
+            if ((this.table[i] ^ data) == key && data != NO_ENTRY) {
+                return data;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key,
+                      final int depth,
+                      final BoundType boundType,
+                      final int score,
+                      final int bestMove) {
+        final int bucketStart = bucketStart(key);
+        int replaceIndex = bucketStart;
+        int replaceScore = Integer.MAX_VALUE;
+        for (int i = bucketStart; i < bucketStart + ENTRIES_PER_BUCKET * 2; i += 2) {
+            final long data = this.table[i + 1];
+            if (data == NO_ENTRY) {
+                replaceIndex = i;
+                break;
+            }
+            if ((this.table[i] ^ data) == key) {
+                if (depth < getDepth(data) && boundType != BoundType.EXACT && getAge(data) == this.age) {
+                    return;
+                }
+                replaceIndex = i;
+                break;
+            }
+            final int relativeAge = (this.age - getAge(data)) & MAX_AGE;
+            final int entryScore = getDepth(data) - 8 * relativeAge;
+            if (entryScore < replaceScore) {
+                replaceScore = entryScore;
+                replaceIndex = i;
+            }
+        }
+        int move = bestMove;
+        if (move == NO_MOVE) {
+            final long previous = this.table[replaceIndex + 1];
+            if ((this.table[replaceIndex] ^ previous) == key) {
+                move = getMove(previous);
+            }
+        }
+        final long data = pack(depth, boundType, score, move, this.age);
+        this.table[replaceIndex] = key ^ data;
+        this.table[replaceIndex + 1] = data;
+    }
+
+    public int hashFull() {
+        int used = 0;
+        final int sample = Math.min(1000, this.table.length / 2);
+        for (int i = 0; i < sample; i++) {
+            final long data = this.table[2 * i + 1];
+            if (data != NO_ENTRY && getAge(data) == this.age) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    private int bucketStart(final long key) {
+        return (int) (key & this.bucketMask) * ENTRIES_PER_BUCKET * 2;
+    }
+
+    private static long pack(final int depth,
+                             final BoundType boundType,
+                             final int score,
+                             final int move,
+                             final int age) {
+        return (move & 0xFFFFFFFFL) |
+                ((long) (score & 0xFFFF) << SCORE_SHIFT) |
+                ((long) Math.max(0, Math.min(depth, 0xFF)) << DEPTH_SHIFT) |
+                ((long) (boundType.ordinal() + 1) << BOUND_SHIFT) |
+                ((long) age << AGE_SHIFT);
+    }
+
+    public static int getMove(final long data) {
+        return (int) data;
+    }
+
+    public static int getScore(final long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(final long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    public static BoundType getBoundType(final long data) {
+        return BoundType.VALUES[(int) ((data >>> BOUND_SHIFT) & 0x3) - 1];
+    }
+
+    private static int getAge(final long data) {
+        return (int) (data >>> AGE_SHIFT) & MAX_AGE;
+    }
+
+    public enum BoundType {
+        EXACT,
+        LOWER_BOUND,
+        UPPER_BOUND;
+
+        private static final BoundType[] VALUES = values();
+    }
+}
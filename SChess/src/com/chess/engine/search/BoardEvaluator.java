@@ -0,0 +1,8 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Position;
+
+public interface BoardEvaluator {
+
+    int evaluate(Position position);
+}
@@ -0,0 +1,67 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Position;
+import com.chess.engine.player.HashTableUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CachingBoardEvaluator implements BoardEvaluator {
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final long VALID_ENTRY = 1L << 32;
+
+    private final BoardEvaluator evaluator;
+    private final long[] table;
+    private final long indexMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public CachingBoardEvaluator(final BoardEvaluator evaluator, final int sizeInMegabytes) {
+        if (sizeInMegabytes <= 0) {
+            throw new IllegalArgumentException("Evaluation cache size must be positive: " + sizeInMegabytes);
+        }
+        final int numEntries = HashTableUtils.slotCount(sizeInMegabytes, LONGS_PER_ENTRY);
+        this.evaluator = evaluator;
+        this.table = new long[numEntries * LONGS_PER_ENTRY];
+        this.indexMask = numEntries - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public int evaluate(final Position position) {
+        final long key = position.getZobristKey();
+        final int index = (int) (key & this.indexMask) * 2;
+        final long data = this.table[index + 1];
+        if (data != 0L && (this.table[index] ^ data) == key) {
+            this.hits.increment();
+            return (int) data;
+        }
+        this.misses.increment();
+        final int score = this.evaluator.evaluate(position);
+        final long entry = (score & 0xFFFFFFFFL) | VALID_ENTRY;
+        this.table[index] = key ^ entry;
+        this.table[index + 1] = entry;
+        return score;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public double getHitRate() {
+        final long hits = getHits();
+        final long probes = hits + getMisses();
+        return probes == 0 ? 0.0 : (double) hits / probes;
+    }
+}
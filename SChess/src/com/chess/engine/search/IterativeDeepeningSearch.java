@@ -0,0 +1,432 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Position;
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.TranspositionTable;
+import com.chess.engine.player.TranspositionTable.BoundType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class IterativeDeepeningSearch implements MoveStrategy {
+    public static final int MATE_SCORE = 30000;
+    public static final int MAX_PLY = 64;
+    private static final int INFINITY = 32000;
+    private static final int MATE_BOUND = MATE_SCORE - MAX_PLY;
+    private static final int ASPIRATION_WINDOW = 50;
+    private static final int ASPIRATION_MIN_DEPTH = 4;
+    private static final int MAX_HISTORY = 1 << 20;
+    private static final int DELTA_MARGIN = 200;
+    private static final int[] SKIP_SIZE = {1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4};
+    private static final int[] SKIP_PHASE = {0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7};
+
+    private final BoardEvaluator evaluator;
+    private final TranspositionTable transpositionTable;
+    private final int maxDepth;
+    private final long maxNodes;
+    private final int helperIndex;
+    private final AtomicBoolean stopSignal;
+
+    private final MovePicker[] movePickers;
+    private final int[][] killerMoves;
+    private final int[][] history;
+    private final int[][] counterMoves;
+    private final int[] currentMoves;
+    private final int[][] principalVariationTable;
+    private final int[] principalVariationLength;
+    private final long[] depthCompletionNanos;
+    private long nodes;
+    private int completedDepth;
+    private boolean stopped;
+
+    public IterativeDeepeningSearch(final BoardEvaluator evaluator,
+                                    final TranspositionTable transpositionTable,
+                                    final int maxDepth) {
+        this(evaluator, transpositionTable, maxDepth, Long.MAX_VALUE);
+    }
+
+    public IterativeDeepeningSearch(final BoardEvaluator evaluator,
+                                    final TranspositionTable transpositionTable,
+                                    final int maxDepth,
+                                    final long maxNodes) {
+        this(evaluator, transpositionTable, maxDepth, maxNodes, 0, new AtomicBoolean());
+    }
+
+    IterativeDeepeningSearch(final BoardEvaluator evaluator,
+                             final TranspositionTable transpositionTable,
+                             final int maxDepth,
+                             final long maxNodes,
+                             final int helperIndex,
+                             final AtomicBoolean stopSignal) {
+        if (maxDepth < 1 || maxDepth >= MAX_PLY) {
+            throw new IllegalArgumentException("Search depth must be between 1 and " + (MAX_PLY - 1));
+        }
+        this.evaluator = evaluator;
+        this.transpositionTable = transpositionTable;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.helperIndex = helperIndex;
+        this.stopSignal = stopSignal;
+        this.movePickers = new MovePicker[MAX_PLY + 1];
+        for (int i = 0; i < this.movePickers.length; i++) {
+            this.movePickers[i] = new MovePicker();
+        }
+        this.killerMoves = new int[MAX_PLY + 1][2];
+        this.history = new int[Position.NUM_PIECE_INDEXES][BoardUtils.NUM_TILES];
+        this.counterMoves = new int[Position.NUM_PIECE_INDEXES][BoardUtils.NUM_TILES];
+        this.currentMoves = new int[MAX_PLY + 1];
+        this.principalVariationTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+        this.principalVariationLength = new int[MAX_PLY + 1];
+        this.depthCompletionNanos = new long[MAX_PLY];
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        return search(board).getBestMove();
+    }
+
+    public SearchResult search(final Board board) {
+        this.stopSignal.set(false);
+        this.transpositionTable.newSearch();
+        return iterate(board, System.nanoTime());
+    }
+
+    public void stop() {
+        this.stopSignal.set(true);
+    }
+
+    SearchResult iterate(final Board board, final long startNanos) {
+        final Position position = new Position(board);
+        this.nodes = 0;
+        this.completedDepth = 0;
+        this.stopped = false;
+        Arrays.fill(this.depthCompletionNanos, 0L);
+        clearHeuristics();
+        SearchResult result = new SearchResult(Collections.<Move>emptyList(), 0, 0, 0);
+        int score = 0;
+        for (int depth = 1; depth <= this.maxDepth; depth++) {
+            if (skipDepth(depth)) {
+                continue;
+            }
+            score = aspirationSearch(position, depth, score);
+            if (this.stopped) {
+                break;
+            }
+            this.completedDepth = depth;
+            this.depthCompletionNanos[depth] = System.nanoTime() - startNanos;
+            result = new SearchResult(currentPrincipalVariation(board), score, depth, this.nodes);
+            if (Math.abs(score) >= MATE_BOUND) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private boolean skipDepth(final int depth) {
+        if (this.helperIndex == 0 || depth == 1) {
+            return false;
+        }
+        final int index = (this.helperIndex - 1) % SKIP_SIZE.length;
+        return ((depth + SKIP_PHASE[index]) / SKIP_SIZE[index]) % 2 != 0;
+    }
+
+    private int aspirationSearch(final Position position,
+                                 final int depth,
+                                 final int previousScore) {
+        if (depth < ASPIRATION_MIN_DEPTH) {
+            return alphaBeta(position, depth, -INFINITY, INFINITY, 0);
+        }
+        int window = ASPIRATION_WINDOW;
+        int alpha = Math.max(previousScore - window, -INFINITY);
+        int beta = Math.min(previousScore + window, INFINITY);
+        while (true) {
+            final int score = alphaBeta(position, depth, alpha, beta, 0);
+            if (this.stopped) {
+                return score;
+            }
+            window *= 2;
+            if (score <= alpha) {
+                alpha = Math.max(score - window, -INFINITY);
+            } else if (score >= beta) {
+                beta = Math.min(score + window, INFINITY);
+            } else {
+                return score;
+            }
+        }
+    }
+
+    private int alphaBeta(final Position position,
+                          final int depth,
+                          int alpha,
+                          final int beta,
+                          final int ply) {
+        this.principalVariationLength[ply] = ply;
+        this.nodes++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (ply >= MAX_PLY) {
+            return evaluate(position);
+        }
+        if (depth == 0) {
+            return quiescence(position, alpha, beta, ply);
+        }
+
+        final boolean isPrincipalVariationNode = beta - alpha > 1;
+        final long key = position.getZobristKey();
+        final long entry = this.transpositionTable.probe(key);
+        int hashMove = TranspositionTable.NO_MOVE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashMove = TranspositionTable.getMove(entry);
+            if (!isPrincipalVariationNode && TranspositionTable.getDepth(entry) >= depth) {
+                final int hashScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+                final BoundType boundType = TranspositionTable.getBoundType(entry);
+                if (boundType == BoundType.EXACT ||
+                        (boundType == BoundType.LOWER_BOUND && hashScore >= beta) ||
+                        (boundType == BoundType.UPPER_BOUND && hashScore <= alpha)) {
+                    return hashScore;
+                }
+            }
+        }
+
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = TranspositionTable.NO_MOVE;
+        final int previousMove = ply > 0 ? this.currentMoves[ply - 1] : PackedMove.NO_MOVE;
+        final MovePicker movePicker = this.movePickers[ply];
+        movePicker.init(position, hashMove, this.killerMoves[ply][0], this.killerMoves[ply][1],
+                previousMove != PackedMove.NO_MOVE ?
+                        this.counterMoves[PackedMove.getMovedPiece(previousMove)][PackedMove.getTo(previousMove)] :
+                        PackedMove.NO_MOVE,
+                this.history);
+        int moveCount = 0;
+        for (int move = movePicker.next(); move != PackedMove.NO_MOVE; move = movePicker.next()) {
+            moveCount++;
+            this.currentMoves[ply] = move;
+            position.makeMove(move);
+            int score;
+            if (moveCount == 1) {
+                score = -alphaBeta(position, depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                score = -alphaBeta(position, depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) {
+                    score = -alphaBeta(position, depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            position.unmakeMove(move);
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        if (MovePicker.isQuiet(move)) {
+                            updateQuietHeuristics(move, previousMove, depth, ply);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (moveCount == 0) {
+            return position.isInCheck(position.getSideToMove()) ? -MATE_SCORE + ply : 0;
+        }
+        final BoundType boundType = bestScore >= beta ? BoundType.LOWER_BOUND :
+                bestScore > originalAlpha ? BoundType.EXACT : BoundType.UPPER_BOUND;
+        this.transpositionTable.store(key, depth, boundType, scoreToTable(bestScore, ply), bestMove);
+        return bestScore;
+    }
+
+    private int quiescence(final Position position,
+                           int alpha,
+                           final int beta,
+                           final int ply) {
+        this.principalVariationLength[ply] = ply;
+        this.nodes++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (ply >= MAX_PLY) {
+            return evaluate(position);
+        }
+        final boolean inCheck = position.isInCheck(position.getSideToMove());
+        int bestScore = -INFINITY;
+        final MovePicker movePicker = this.movePickers[ply];
+        if (inCheck) {
+            movePicker.init(position, PackedMove.NO_MOVE, PackedMove.NO_MOVE, PackedMove.NO_MOVE,
+                    PackedMove.NO_MOVE, this.history);
+        } else {
+            final int standPat = evaluate(position);
+            if (standPat >= beta) {
+                return standPat;
+            }
+            if (standPat + DELTA_MARGIN + maximumGain(position) < alpha) {
+                return standPat;
+            }
+            bestScore = standPat;
+            alpha = Math.max(alpha, standPat);
+            movePicker.initQuiescence(position);
+        }
+        int moveCount = 0;
+        for (int move = movePicker.next(); move != PackedMove.NO_MOVE; move = movePicker.next()) {
+            moveCount++;
+            if (!inCheck && bestScore + materialGain(move) + DELTA_MARGIN < alpha) {
+                continue;
+            }
+            position.makeMove(move);
+            final int score = -quiescence(position, -beta, -alpha, ply + 1);
+            position.unmakeMove(move);
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (inCheck && moveCount == 0) {
+            return -MATE_SCORE + ply;
+        }
+        return bestScore;
+    }
+
+    private boolean shouldStop() {
+        if (this.nodes >= this.maxNodes && this.completedDepth > 0) {
+            this.stopSignal.set(true);
+        }
+        if (!this.stopped && this.stopSignal.get()) {
+            this.stopped = true;
+        }
+        return this.stopped;
+    }
+
+    private static int materialGain(final int move) {
+        int gain = PackedMove.isCapture(move) ?
+                Position.pieceTypeOf(PackedMove.getCapturedPiece(move)).getPieceValue() : 0;
+        if (PackedMove.isPromotion(move)) {
+            gain += Position.pieceTypeOf(PackedMove.getPromotionPiece(move)).getPieceValue() -
+                    PieceType.PAWN.getPieceValue();
+        }
+        return gain;
+    }
+
+    private static int maximumGain(final Position position) {
+        final Alliance us = position.getSideToMove();
+        final long promotionRank = us.isWhite() ? BitBoards.SEVENTH_RANK : BitBoards.SECOND_RANK;
+        return (position.getPieces(us, PieceType.PAWN) & promotionRank) == BitBoards.EMPTY ?
+                PieceType.QUEEN.getPieceValue() :
+                2 * PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue();
+    }
+
+    private int evaluate(final Position position) {
+        final int score = this.evaluator.evaluate(position);
+        return position.getSideToMove().isWhite() ? score : -score;
+    }
+
+    private void updateQuietHeuristics(final int move,
+                                       final int previousMove,
+                                       final int depth,
+                                       final int ply) {
+        final int[] killers = this.killerMoves[ply];
+        if (killers[0] != move) {
+            killers[1] = killers[0];
+            killers[0] = move;
+        }
+        final int[] pieceHistory = this.history[PackedMove.getMovedPiece(move)];
+        pieceHistory[PackedMove.getTo(move)] += depth * depth;
+        if (pieceHistory[PackedMove.getTo(move)] > MAX_HISTORY) {
+            ageHistory();
+        }
+        if (previousMove != PackedMove.NO_MOVE) {
+            this.counterMoves[PackedMove.getMovedPiece(previousMove)][PackedMove.getTo(previousMove)] = move;
+        }
+    }
+
+    private void ageHistory() {
+        for (final int[] pieceHistory : this.history) {
+            for (int i = 0; i < pieceHistory.length; i++) {
+                pieceHistory[i] >>= 1;
+            }
+        }
+    }
+
+    private void clearHeuristics() {
+        for (final int[] killers : this.killerMoves) {
+            Arrays.fill(killers, PackedMove.NO_MOVE);
+        }
+        for (int i = 0; i < this.history.length; i++) {
+            Arrays.fill(this.history[i], 0);
+            Arrays.fill(this.counterMoves[i], PackedMove.NO_MOVE);
+        }
+    }
+
+    private void updatePrincipalVariation(final int ply, final int move) {
+        final int[] principalVariation = this.principalVariationTable[ply];
+        principalVariation[ply] = move;
+        final int childLength = this.principalVariationLength[ply + 1];
+        System.arraycopy(this.principalVariationTable[ply + 1], ply + 1,
+                principalVariation, ply + 1, childLength - (ply + 1));
+        this.principalVariationLength[ply] = Math.max(childLength, ply + 1);
+    }
+
+    private List<Move> currentPrincipalVariation(final Board rootBoard) {
+        final List<Move> principalVariation = new ArrayList<>();
+        Board board = rootBoard;
+        for (int i = 0; i < this.principalVariationLength[0]; i++) {
+            final Move move = Move.MoveFactory.createMove(board, this.principalVariationTable[0][i]);
+            if (move == Move.NULL_MOVE) {
+                break;
+            }
+            principalVariation.add(move);
+            board = move.execute();
+        }
+        return principalVariation;
+    }
+
+    private static int scoreToTable(final int score, final int ply) {
+        if (score >= MATE_BOUND) {
+            return score + ply;
+        }
+        if (score <= -MATE_BOUND) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int scoreFromTable(final int score, final int ply) {
+        if (score >= MATE_BOUND) {
+            return score - ply;
+        }
+        if (score <= -MATE_BOUND) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    long getDepthCompletionNanos(final int depth) {
+        return this.depthCompletionNanos[depth];
+    }
+}
@@ -0,0 +1,118 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.TranspositionTable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LazySmpSearch implements MoveStrategy {
+    private final TranspositionTable transpositionTable;
+    private final int maxDepth;
+    private final IterativeDeepeningSearch[] searches;
+    private final AtomicBoolean stopSignal;
+    private final long[] timeToDepthNanos;
+    private long totalNodes;
+
+    public LazySmpSearch(final BoardEvaluator evaluator,
+                         final TranspositionTable transpositionTable,
+                         final int threadCount,
+                         final int maxDepth) {
+        this(evaluator, transpositionTable, threadCount, maxDepth, Long.MAX_VALUE);
+    }
+
+    public LazySmpSearch(final BoardEvaluator evaluator,
+                         final TranspositionTable transpositionTable,
+                         final int threadCount,
+                         final int maxDepth,
+                         final long maxNodes) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threadCount);
+        }
+        this.transpositionTable = transpositionTable;
+        this.maxDepth = maxDepth;
+        this.stopSignal = new AtomicBoolean();
+        this.searches = new IterativeDeepeningSearch[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            this.searches[i] = new IterativeDeepeningSearch(evaluator, transpositionTable, maxDepth,
+                    i == 0 ? maxNodes : Long.MAX_VALUE, i, this.stopSignal);
+        }
+        this.timeToDepthNanos = new long[maxDepth + 1];
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        return search(board).getBestMove();
+    }
+
+    public SearchResult search(final Board board) {
+        this.stopSignal.set(false);
+        this.transpositionTable.newSearch();
+        final long startNanos = System.nanoTime();
+        final SearchResult[] results = new SearchResult[this.searches.length];
+        final Thread[] helpers = new Thread[this.searches.length - 1];
+        for (int i = 1; i < this.searches.length; i++) {
+            final int helperIndex = i;
+            helpers[i - 1] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    results[helperIndex] = searches[helperIndex].iterate(board, startNanos);
+                }
+            }, "lazy-smp-helper-" + i);
+            helpers[i - 1].setDaemon(true);
+            helpers[i - 1].start();
+        }
+        results[0] = this.searches[0].iterate(board, startNanos);
+        this.stopSignal.set(true);
+        for (final Thread helper : helpers) {
+            try {
+                helper.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return collectResults(results);
+    }
+
+    public void stop() {
+        this.stopSignal.set(true);
+    }
+
+    private SearchResult collectResults(final SearchResult[] results) {
+        SearchResult best = results[0];
+        this.totalNodes = 0;
+        Arrays.fill(this.timeToDepthNanos, 0L);
+        for (int i = 0; i < results.length; i++) {
+            this.totalNodes += this.searches[i].getNodes();
+            if (results[i] != null && results[i].getDepth() > best.getDepth() &&
+                    !results[i].getPrincipalVariation().isEmpty()) {
+                best = results[i];
+            }
+            for (int depth = 1; depth <= this.maxDepth; depth++) {
+                final long completion = this.searches[i].getDepthCompletionNanos(depth);
+                if (completion > 0 && (this.timeToDepthNanos[depth] == 0 || completion < this.timeToDepthNanos[depth])) {
+                    this.timeToDepthNanos[depth] = completion;
+                }
+            }
+        }
+        return new SearchResult(best.getPrincipalVariation(), best.getScore(), best.getDepth(), this.totalNodes);
+    }
+
+    public int getThreadCount() {
+        return this.searches.length;
+    }
+
+    public long getTotalNodes() {
+        return this.totalNodes;
+    }
+
+    public long getThreadNodes(final int threadIndex) {
+        return this.searches[threadIndex].getNodes();
+    }
+
+    public long getTimeToDepthNanos(final int depth) {
+        return this.timeToDepthNanos[depth];
+    }
+}
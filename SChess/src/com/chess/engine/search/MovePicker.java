@@ -0,0 +1,214 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.MoveGenerator;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Position;
+
+final class MovePicker {
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int GOOD_CAPTURES = 2;
+    private static final int FIRST_KILLER = 3;
+    private static final int SECOND_KILLER = 4;
+    private static final int COUNTER_MOVE = 5;
+    private static final int GENERATE_QUIETS = 6;
+    private static final int QUIETS = 7;
+    private static final int BAD_CAPTURES = 8;
+    private static final int DONE = 9;
+
+    private static final int[] ORDERING_VALUES = {3, 6, 2, 1, 5, 4};
+
+    private final MoveList captures;
+    private final MoveList quiets;
+    private final MoveList badCaptures;
+    private final MoveList scratch;
+    private final int[] scores;
+    private final int[] exchangeGains;
+
+    private Position position;
+    private int[][] history;
+    private int hashMove;
+    private int firstKiller;
+    private int secondKiller;
+    private int counterMove;
+    private boolean capturesOnly;
+    private int stage;
+    private int index;
+
+    MovePicker() {
+        this.captures = new MoveList();
+        this.quiets = new MoveList();
+        this.badCaptures = new MoveList();
+        this.scratch = new MoveList();
+        this.scores = new int[MoveList.MAX_MOVES];
+        this.exchangeGains = new int[StaticExchangeEvaluator.MAX_EXCHANGES];
+    }
+
+    void init(final Position position,
+              final int hashMove,
+              final int firstKiller,
+              final int secondKiller,
+              final int counterMove,
+              final int[][] history) {
+        this.position = position;
+        this.hashMove = hashMove;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.counterMove = counterMove;
+        this.history = history;
+        this.capturesOnly = false;
+        this.stage = HASH_MOVE;
+        this.index = 0;
+    }
+
+    void initQuiescence(final Position position) {
+        this.position = position;
+        this.hashMove = PackedMove.NO_MOVE;
+        this.capturesOnly = true;
+        this.stage = GENERATE_CAPTURES;
+        this.index = 0;
+    }
+
+    int next() {
+        while (true) {
+            switch (this.stage) {
+                case HASH_MOVE:
+                    this.stage = GENERATE_CAPTURES;
+                    if (MoveGenerator.isLegalMove(this.position, this.hashMove, this.scratch)) {
+                        return this.hashMove;
+                    }
+                    this.hashMove = PackedMove.NO_MOVE;
+                    break;
+                case GENERATE_CAPTURES:
+                    MoveGenerator.generateLegalCaptures(this.position, this.captures);
+                    this.badCaptures.clear();
+                    scoreCaptures();
+                    this.index = 0;
+                    this.stage = GOOD_CAPTURES;
+                    break;
+                case GOOD_CAPTURES:
+                    while (this.index < this.captures.size()) {
+                        final int move = pickBest(this.captures, this.index++);
+                        if (move == this.hashMove) {
+                            continue;
+                        }
+                        if (isLosingCapture(move)) {
+                            this.badCaptures.add(move);
+                            continue;
+                        }
+                        return move;
+                    }
+                    this.stage = this.capturesOnly ? DONE : FIRST_KILLER;
+                    break;
+                case FIRST_KILLER:
+                    this.stage = SECOND_KILLER;
+                    if (isNewQuietMove(this.firstKiller, this.hashMove, this.hashMove) &&
+                            MoveGenerator.isLegalMove(this.position, this.firstKiller, this.scratch)) {
+                        return this.firstKiller;
+                    }
+                    this.firstKiller = PackedMove.NO_MOVE;
+                    break;
+                case SECOND_KILLER:
+                    this.stage = COUNTER_MOVE;
+                    if (isNewQuietMove(this.secondKiller, this.hashMove, this.firstKiller) &&
+                            MoveGenerator.isLegalMove(this.position, this.secondKiller, this.scratch)) {
+                        return this.secondKiller;
+                    }
+                    this.secondKiller = PackedMove.NO_MOVE;
+                    break;
+                case COUNTER_MOVE:
+                    this.stage = GENERATE_QUIETS;
+                    if (isNewQuietMove(this.counterMove, this.hashMove, this.firstKiller) &&
+                            this.counterMove != this.secondKiller &&
+                            MoveGenerator.isLegalMove(this.position, this.counterMove, this.scratch)) {
+                        return this.counterMove;
+                    }
+                    this.counterMove = PackedMove.NO_MOVE;
+                    break;
+                case GENERATE_QUIETS:
+                    MoveGenerator.generateLegalQuietMoves(this.position, this.quiets);
+                    scoreQuiets();
+                    this.index = 0;
+                    this.stage = QUIETS;
+                    break;
+                case QUIETS:
+                    while (this.index < this.quiets.size()) {
+                        final int move = pickBest(this.quiets, this.index++);
+                        if (move != this.hashMove && move != this.firstKiller &&
+                                move != this.secondKiller && move != this.counterMove) {
+                            return move;
+                        }
+                    }
+                    this.index = 0;
+                    this.stage = BAD_CAPTURES;
+                    break;
+                case BAD_CAPTURES:
+                    if (this.index < this.badCaptures.size()) {
+                        return this.badCaptures.get(this.index++);
+                    }
+                    this.stage = DONE;
+                    break;
+                default:
+                    return PackedMove.NO_MOVE;
+            }
+        }
+    }
+
+    static boolean isQuiet(final int move) {
+        return !PackedMove.isCapture(move) && !PackedMove.isPromotion(move);
+    }
+
+    private static boolean isNewQuietMove(final int move, final int firstPicked, final int secondPicked) {
+        return move != PackedMove.NO_MOVE && move != firstPicked && move != secondPicked && isQuiet(move);
+    }
+
+    private boolean isLosingCapture(final int move) {
+        if (!PackedMove.isCapture(move)) {
+            return false;
+        }
+        return orderingValue(PackedMove.getCapturedPiece(move)) < orderingValue(PackedMove.getMovedPiece(move)) &&
+                StaticExchangeEvaluator.evaluate(this.position, move, this.exchangeGains) < 0;
+    }
+
+    private void scoreCaptures() {
+        for (int i = 0; i < this.captures.size(); i++) {
+            final int move = this.captures.get(i);
+            int score = -orderingValue(PackedMove.getMovedPiece(move));
+            if (PackedMove.isCapture(move)) {
+                score += orderingValue(PackedMove.getCapturedPiece(move)) * Position.NUM_PIECE_TYPES * 2;
+            }
+            if (PackedMove.isPromotion(move)) {
+                score += orderingValue(PackedMove.getPromotionPiece(move)) * Position.NUM_PIECE_TYPES * 2;
+            }
+            this.scores[i] = score;
+        }
+    }
+
+    private void scoreQuiets() {
+        for (int i = 0; i < this.quiets.size(); i++) {
+            final int move = this.quiets.get(i);
+            this.scores[i] = this.history[PackedMove.getMovedPiece(move)][PackedMove.getTo(move)];
+        }
+    }
+
+    private int pickBest(final MoveList moves, final int from) {
+        int best = from;
+        for (int i = from + 1; i < moves.size(); i++) {
+            if (this.scores[i] > this.scores[best]) {
+                best = i;
+            }
+        }
+        if (best != from) {
+            moves.swap(from, best);
+            final int score = this.scores[from];
+            this.scores[from] = this.scores[best];
+            this.scores[best] = score;
+        }
+        return moves.get(from);
+    }
+
+    private static int orderingValue(final int piece) {
+        return ORDERING_VALUES[piece % Position.NUM_PIECE_TYPES];
+    }
+}
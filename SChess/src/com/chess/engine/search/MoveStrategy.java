@@ -0,0 +1,9 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+
+public interface MoveStrategy {
+
+    Move execute(Board board);
+}
@@ -0,0 +1,56 @@
+package com.chess.engine.search;
+
+import com.chess.engine.player.HashTableUtils;
+
+import java.util.Arrays;
+
+public class PawnHashTable {
+    public static final long NO_ENTRY = Long.MIN_VALUE;
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int END_GAME_SHIFT = 32;
+
+    private final long[] table;
+    private final long indexMask;
+
+    public PawnHashTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes <= 0) {
+            throw new IllegalArgumentException("Pawn hash table size must be positive: " + sizeInMegabytes);
+        }
+        final int numEntries = HashTableUtils.slotCount(sizeInMegabytes, LONGS_PER_ENTRY);
+        this.table = new long[numEntries * LONGS_PER_ENTRY];
+        this.indexMask = numEntries - 1;
+    }
+
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+    }
+
+    public long probe(final long pawnKey) {
+        final int index = index(pawnKey);
+        final long data = this.table[index + 1];
+        return (this.table[index] ^ data) == pawnKey ? data : NO_ENTRY;
+    }
+
+    public void store(final long pawnKey, final long data) {
+        final int index = index(pawnKey);
+        this.table[index] = pawnKey ^ data;
+        this.table[index + 1] = data;
+    }
+
+    private int index(final long pawnKey) {
+        return (int) (pawnKey & this.indexMask) * 2;
+    }
+
+    public static long pack(final int middleGameScore, final int endGameScore) {
+        return (middleGameScore & 0xFFFFFFFFL) | ((long) endGameScore << END_GAME_SHIFT);
+    }
+
+    public static int getMiddleGameScore(final long data) {
+        return (int) data;
+    }
+
+    public static int getEndGameScore(final long data) {
+        return (int) (data >>> END_GAME_SHIFT);
+    }
+}
@@ -0,0 +1,51 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Move;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+public class SearchResult {
+    private final Move bestMove;
+    private final List<Move> principalVariation;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+
+    public SearchResult(final List<Move> principalVariation,
+                        final int score,
+                        final int depth,
+                        final long nodes) {
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.bestMove = principalVariation.isEmpty() ? Move.NULL_MOVE : principalVariation.get(0);
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+    }
+
+    public Move getBestMove() {
+        return this.bestMove;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "depth " + this.depth + " score " + this.score + " nodes " + this.nodes +
+                " pv " + this.principalVariation;
+    }
+}
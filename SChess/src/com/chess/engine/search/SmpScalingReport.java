@@ -0,0 +1,55 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.player.TranspositionTable;
+
+public final class SmpScalingReport {
+    private static final int DEFAULT_DEPTH = 6;
+    private static final int HASH_SIZE_MB = 64;
+    private static final int EVALUATION_CACHE_SIZE_MB = 16;
+
+    private SmpScalingReport() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        final int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) :
+                Runtime.getRuntime().availableProcessors();
+        final Board board = Board.createStandardBoard();
+        new IterativeDeepeningSearch(new StandardBoardEvaluator(), new TranspositionTable(HASH_SIZE_MB), depth)
+                .search(board);
+        long baselineNanos = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            final CachingBoardEvaluator evaluator = new CachingBoardEvaluator(new StandardBoardEvaluator(),
+                    EVALUATION_CACHE_SIZE_MB);
+            final LazySmpSearch search = new LazySmpSearch(evaluator, new TranspositionTable(HASH_SIZE_MB),
+                    threads, depth);
+            final long start = System.nanoTime();
+            final SearchResult result = search.search(board);
+            final long elapsedNanos = System.nanoTime() - start;
+            if (threads == 1) {
+                baselineNanos = search.getTimeToDepthNanos(result.getDepth());
+            }
+            System.out.printf("threads %2d  nodes %12d  time %8d ms  nps %10d  speedup %5.2f  %s%n",
+                    threads,
+                    search.getTotalNodes(),
+                    elapsedNanos / 1_000_000,
+                    search.getTotalNodes() * 1_000_000_000L / Math.max(1, elapsedNanos),
+                    (double) baselineNanos / Math.max(1, search.getTimeToDepthNanos(result.getDepth())),
+                    result);
+            final StringBuilder timeToDepth = new StringBuilder("    time to depth (ms):");
+            for (int d = 1; d <= result.getDepth(); d++) {
+                timeToDepth.append(' ').append(d).append('=').append(search.getTimeToDepthNanos(d) / 1_000_000);
+            }
+            System.out.println(timeToDepth);
+            final StringBuilder threadNodes = new StringBuilder("    nodes per thread:");
+            for (int i = 0; i < search.getThreadCount(); i++) {
+                threadNodes.append(' ').append(search.getThreadNodes(i));
+            }
+            System.out.println(threadNodes);
+            System.out.printf("    evaluation cache: hits %d  misses %d  hit rate %.1f%%%n",
+                    evaluator.getHits(), evaluator.getMisses(), evaluator.getHitRate() * 100);
+        }
+    }
+}
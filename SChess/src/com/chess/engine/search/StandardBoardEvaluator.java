@@ -0,0 +1,206 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.AttackTables;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.MagicBitBoards;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.Position;
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class StandardBoardEvaluator implements BoardEvaluator {
+    private static final int CHECK_BONUS = 50;
+    private static final int MOBILITY_MULTIPLIER = 2;
+    private static final int PAWN_SHIELD_BONUS = 10;
+    private static final int MINOR_ATTACK_WEIGHT = 2;
+    private static final int ROOK_ATTACK_WEIGHT = 3;
+    private static final int QUEEN_ATTACK_WEIGHT = 5;
+    private static final int MAX_KING_DANGER = 500;
+    private static final int DEFAULT_PAWN_HASH_SIZE_MB = 2;
+
+    private static final int DOUBLED_PAWN_MIDDLE_GAME = -10;
+    private static final int DOUBLED_PAWN_END_GAME = -25;
+    private static final int ISOLATED_PAWN_MIDDLE_GAME = -10;
+    private static final int ISOLATED_PAWN_END_GAME = -15;
+    private static final int BACKWARD_PAWN_MIDDLE_GAME = -8;
+    private static final int BACKWARD_PAWN_END_GAME = -12;
+    private static final int[] PASSED_PAWN_MIDDLE_GAME = {0, 5, 10, 15, 25, 40, 60, 0};
+    private static final int[] PASSED_PAWN_END_GAME = {0, 10, 15, 25, 45, 75, 115, 0};
+
+    private static final long[] FILE_MASKS = initFileMasks();
+    private static final long[] ADJACENT_FILE_MASKS = initAdjacentFileMasks();
+    private static final long[][] PASSED_PAWN_MASKS = {initPawnSpans(Alliance.WHITE, false),
+            initPawnSpans(Alliance.BLACK, false)};
+    private static final long[][] SUPPORT_MASKS = {initPawnSpans(Alliance.WHITE, true),
+            initPawnSpans(Alliance.BLACK, true)};
+
+    private final PawnHashTable pawnHashTable;
+
+    public StandardBoardEvaluator() {
+        this(new PawnHashTable(DEFAULT_PAWN_HASH_SIZE_MB));
+    }
+
+    public StandardBoardEvaluator(final PawnHashTable pawnHashTable) {
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    @Override
+    public int evaluate(final Position position) {
+        final long pawnStructure = probePawnStructure(position);
+        final int mobility = mobility(position, Alliance.WHITE) - mobility(position, Alliance.BLACK);
+        final int kingSafety = kingSafety(position, Alliance.WHITE) - kingSafety(position, Alliance.BLACK);
+        return PieceSquareTables.taper(
+                position.getMiddleGameScore() + PawnHashTable.getMiddleGameScore(pawnStructure) + mobility + kingSafety,
+                position.getEndGameScore() + PawnHashTable.getEndGameScore(pawnStructure) + mobility,
+                position.getGamePhase()) +
+                check(position, Alliance.WHITE) - check(position, Alliance.BLACK);
+    }
+
+    private long probePawnStructure(final Position position) {
+        final long pawnKey = position.getPawnKey();
+        long pawnStructure = this.pawnHashTable.probe(pawnKey);
+        if (pawnStructure == PawnHashTable.NO_ENTRY) {
+            final long whitePawns = position.getPieces(Alliance.WHITE, PieceType.PAWN);
+            final long blackPawns = position.getPieces(Alliance.BLACK, PieceType.PAWN);
+            final long white = pawnStructure(Alliance.WHITE, whitePawns, blackPawns);
+            final long black = pawnStructure(Alliance.BLACK, blackPawns, whitePawns);
+            pawnStructure = PawnHashTable.pack(
+                    PawnHashTable.getMiddleGameScore(white) - PawnHashTable.getMiddleGameScore(black),
+                    PawnHashTable.getEndGameScore(white) - PawnHashTable.getEndGameScore(black));
+            this.pawnHashTable.store(pawnKey, pawnStructure);
+        }
+        return pawnStructure;
+    }
+
+    private static long pawnStructure(final Alliance alliance, final long pawns, final long enemyPawns) {
+        int middleGame = 0;
+        int endGame = 0;
+        for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+            final int pawnsOnFile = BitBoards.count(pawns & FILE_MASKS[file]);
+            if (pawnsOnFile > 1) {
+                middleGame += DOUBLED_PAWN_MIDDLE_GAME * (pawnsOnFile - 1);
+                endGame += DOUBLED_PAWN_END_GAME * (pawnsOnFile - 1);
+            }
+        }
+        final int side = alliance.ordinal();
+        for (long remaining = pawns; remaining != BitBoards.EMPTY; remaining = BitBoards.clearFirst(remaining)) {
+            final int square = BitBoards.firstSquare(remaining);
+            final int file = square % BoardUtils.NUM_TILES_PER_ROW;
+            final long passedMask = PASSED_PAWN_MASKS[side][square];
+            if ((passedMask & enemyPawns) == BitBoards.EMPTY && (passedMask & FILE_MASKS[file] & pawns) == BitBoards.EMPTY) {
+                final int rank = alliance.isWhite() ? 7 - square / BoardUtils.NUM_TILES_PER_ROW :
+                        square / BoardUtils.NUM_TILES_PER_ROW;
+                middleGame += PASSED_PAWN_MIDDLE_GAME[rank];
+                endGame += PASSED_PAWN_END_GAME[rank];
+            }
+            if ((ADJACENT_FILE_MASKS[file] & pawns) == BitBoards.EMPTY) {
+                middleGame += ISOLATED_PAWN_MIDDLE_GAME;
+                endGame += ISOLATED_PAWN_END_GAME;
+                continue;
+            }
+            final int stopSquare = square + alliance.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            if (BoardUtils.isValidCoordinate(stopSquare) &&
+                    (SUPPORT_MASKS[side][square] & pawns) == BitBoards.EMPTY &&
+                    (AttackTables.pawnAttacks(alliance, stopSquare) & enemyPawns) != BitBoards.EMPTY) {
+                middleGame += BACKWARD_PAWN_MIDDLE_GAME;
+                endGame += BACKWARD_PAWN_END_GAME;
+            }
+        }
+        return PawnHashTable.pack(middleGame, endGame);
+    }
+
+    private static int mobility(final Position position, final Alliance alliance) {
+        final long targets = ~position.getAlliancePieces(alliance);
+        final long occupied = position.getOccupied();
+        int mobility = 0;
+        for (long knights = position.getPieces(alliance, PieceType.KNIGHT); knights != BitBoards.EMPTY;
+             knights = BitBoards.clearFirst(knights)) {
+            mobility += BitBoards.count(AttackTables.knightAttacks(BitBoards.firstSquare(knights)) & targets);
+        }
+        final long queens = position.getPieces(alliance, PieceType.QUEEN);
+        for (long diagonals = position.getPieces(alliance, PieceType.BISHOP) | queens; diagonals != BitBoards.EMPTY;
+             diagonals = BitBoards.clearFirst(diagonals)) {
+            mobility += BitBoards.count(MagicBitBoards.bishopAttacks(BitBoards.firstSquare(diagonals), occupied) & targets);
+        }
+        for (long orthogonals = position.getPieces(alliance, PieceType.ROOK) | queens; orthogonals != BitBoards.EMPTY;
+             orthogonals = BitBoards.clearFirst(orthogonals)) {
+            mobility += BitBoards.count(MagicBitBoards.rookAttacks(BitBoards.firstSquare(orthogonals), occupied) & targets);
+        }
+        return MOBILITY_MULTIPLIER * mobility;
+    }
+
+    private static int kingSafety(final Position position, final Alliance alliance) {
+        final long king = position.getPieces(alliance, PieceType.KING);
+        if (king == BitBoards.EMPTY) {
+            return 0;
+        }
+        final int kingSquare = BitBoards.firstSquare(king);
+        final long kingZone = AttackTables.kingAttacks(kingSquare) | king;
+        final Alliance opponent = alliance.getOpponent();
+        final long occupied = position.getOccupied();
+        int attackUnits = 0;
+        for (long knights = position.getPieces(opponent, PieceType.KNIGHT); knights != BitBoards.EMPTY;
+             knights = BitBoards.clearFirst(knights)) {
+            attackUnits += MINOR_ATTACK_WEIGHT *
+                    BitBoards.count(AttackTables.knightAttacks(BitBoards.firstSquare(knights)) & kingZone);
+        }
+        for (long bishops = position.getPieces(opponent, PieceType.BISHOP); bishops != BitBoards.EMPTY;
+             bishops = BitBoards.clearFirst(bishops)) {
+            attackUnits += MINOR_ATTACK_WEIGHT *
+                    BitBoards.count(MagicBitBoards.bishopAttacks(BitBoards.firstSquare(bishops), occupied) & kingZone);
+        }
+        for (long rooks = position.getPieces(opponent, PieceType.ROOK); rooks != BitBoards.EMPTY;
+             rooks = BitBoards.clearFirst(rooks)) {
+            attackUnits += ROOK_ATTACK_WEIGHT *
+                    BitBoards.count(MagicBitBoards.rookAttacks(BitBoards.firstSquare(rooks), occupied) & kingZone);
+        }
+        for (long queens = position.getPieces(opponent, PieceType.QUEEN); queens != BitBoards.EMPTY;
+             queens = BitBoards.clearFirst(queens)) {
+            attackUnits += QUEEN_ATTACK_WEIGHT *
+                    BitBoards.count(MagicBitBoards.queenAttacks(BitBoards.firstSquare(queens), occupied) & kingZone);
+        }
+        final int pawnShield = PAWN_SHIELD_BONUS *
+                BitBoards.count(AttackTables.kingAttacks(kingSquare) & position.getPieces(alliance, PieceType.PAWN));
+        return pawnShield - Math.min(attackUnits * attackUnits / 4, MAX_KING_DANGER);
+    }
+
+    private static int check(final Position position, final Alliance alliance) {
+        return position.isInCheck(alliance.getOpponent()) ? CHECK_BONUS : 0;
+    }
+
+    private static long[] initFileMasks() {
+        final long[] masks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+            masks[i % BoardUtils.NUM_TILES_PER_ROW] |= BitBoards.squareMask(i);
+        }
+        return masks;
+    }
+
+    private static long[] initAdjacentFileMasks() {
+        final long[] fileMasks = initFileMasks();
+        final long[] masks = new long[BoardUtils.NUM_TILES_PER_ROW];
+        for (int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+            masks[file] = (file > 0 ? fileMasks[file - 1] : BitBoards.EMPTY) |
+                    (file < BoardUtils.NUM_TILES_PER_ROW - 1 ? fileMasks[file + 1] : BitBoards.EMPTY);
+        }
+        return masks;
+    }
+
+    private static long[] initPawnSpans(final Alliance alliance, final boolean behind) {
+        final long[] spans = new long[BoardUtils.NUM_TILES];
+        for (int square = 0; square < BoardUtils.NUM_TILES; square++) {
+            final int row = square / BoardUtils.NUM_TILES_PER_ROW;
+            final int file = square % BoardUtils.NUM_TILES_PER_ROW;
+            for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+                final int otherRow = i / BoardUtils.NUM_TILES_PER_ROW;
+                final int fileDistance = Math.abs(i % BoardUtils.NUM_TILES_PER_ROW - file);
+                final int rowsAhead = (otherRow - row) * alliance.getDirection();
+                if (behind ? fileDistance == 1 && rowsAhead <= 0 : fileDistance <= 1 && rowsAhead > 0) {
+                    spans[square] |= BitBoards.squareMask(i);
+                }
+            }
+        }
+        return spans;
+    }
+}
@@ -0,0 +1,88 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Position;
+import com.chess.engine.pieces.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class StaticExchangeEvaluator {
+    private StaticExchangeEvaluator() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    static final int MAX_EXCHANGES = 32;
+    private static final PieceType[] ATTACKER_ORDER = {PieceType.PAWN, PieceType.KNIGHT, PieceType.BISHOP,
+            PieceType.ROOK, PieceType.QUEEN, PieceType.KING};
+
+    public static int evaluate(final Board board, final Move move) {
+        return evaluate(new Position(board), move.getEncodedMove());
+    }
+
+    public static int evaluate(final Position position, final int move) {
+        return evaluate(position, move, new int[MAX_EXCHANGES]);
+    }
+
+    static int evaluate(final Position position, final int move, final int[] gain) {
+        final int from = PackedMove.getFrom(move);
+        final int to = PackedMove.getTo(move);
+        long occupied = position.getOccupied() ^ BitBoards.squareMask(from);
+        if (PackedMove.getFlag(move) == PackedMove.EN_PASSANT) {
+            occupied ^= BitBoards.squareMask(to - position.getSideToMove().getDirection() *
+                    BoardUtils.NUM_TILES_PER_ROW);
+        }
+        gain[0] = PackedMove.isCapture(move) ? pieceValue(PackedMove.getCapturedPiece(move)) : 0;
+        int attackerValue = pieceValue(PackedMove.getMovedPiece(move));
+        if (PackedMove.isPromotion(move)) {
+            final int promotionValue = pieceValue(PackedMove.getPromotionPiece(move));
+            gain[0] += promotionValue - attackerValue;
+            attackerValue = promotionValue;
+        }
+        Alliance side = position.getSideToMove().getOpponent();
+        int depth = 0;
+        while (depth + 1 < MAX_EXCHANGES) {
+            final long attackers = position.attackersOf(to, side, occupied) & occupied;
+            if (attackers == BitBoards.EMPTY) {
+                break;
+            }
+            depth++;
+            gain[depth] = attackerValue - gain[depth - 1];
+            if (Math.max(-gain[depth - 1], gain[depth]) < 0) {
+                depth--;
+                break;
+            }
+            final int attacker = leastValuableAttacker(position, side, attackers);
+            occupied ^= BitBoards.squareMask(attacker);
+            attackerValue = pieceValue(position.getPieceOn(attacker));
+            side = side.getOpponent();
+        }
+        while (depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+            depth--;
+        }
+        return gain[0];
+    }
+
+    public static boolean isLosing(final Position position, final int move) {
+        return evaluate(position, move) < 0;
+    }
+
+    private static int leastValuableAttacker(final Position position,
+                                             final Alliance side,
+                                             final long attackers) {
+        for (final PieceType pieceType : ATTACKER_ORDER) {
+            final long pieces = attackers & position.getPieces(side, pieceType);
+            if (pieces != BitBoards.EMPTY) {
+                return BitBoards.firstSquare(pieces);
+            }
+        }
+        throw new RuntimeException("Should not reach here, no attacker found");
+    }
+
+    private static int pieceValue(final int piece) {
+        return Position.pieceTypeOf(piece).getPieceValue();
+    }
+}
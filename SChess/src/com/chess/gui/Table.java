@@ -6,6 +6,8 @@ import com.chess.engine.board.Move;
 import com.chess.engine.board.Square;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.MoveTransition;
+import com.chess.pgn.Game;
+import com.chess.pgn.PGNReader;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -66,7 +68,10 @@ public class Table {
         openPGN.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("Open up that pgn file");
+                final JFileChooser chooser = new JFileChooser();
+                if (chooser.showOpenDialog(gameFrame) == JFileChooser.APPROVE_OPTION) {
+                    loadPGNFile(chooser.getSelectedFile());
+                }
             }
         });
         fileMenu.add(openPGN);
@@ -81,6 +86,45 @@ public class Table {
         return fileMenu;
     }
 
+    private void loadPGNFile(final File pgnFile) {
+        final Thread loader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                int games = 0;
+                int invalidGames = 0;
+                Board firstGameBoard = null;
+                try (final PGNReader reader = new PGNReader(pgnFile)) {
+                    while (reader.hasNext()) {
+                        final Game game = reader.next();
+                        games++;
+                        if (!game.isValid()) {
+                            invalidGames++;
+                            System.out.println("Game " + games + ": " + game);
+                        }
+                        if (firstGameBoard == null) {
+                            firstGameBoard = game.getFinalBoard();
+                        }
+                    }
+                } catch (final IOException | RuntimeException e) {
+                    e.printStackTrace();
+                }
+                System.out.println("Loaded " + games + " games (" + invalidGames + " invalid) from " + pgnFile);
+                final Board loadedBoard = firstGameBoard;
+                if (loadedBoard != null) {
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            chessBoard = loadedBoard;
+                            boardPanel.drawBoard(chessBoard);
+                        }
+                    });
+                }
+            }
+        }, "pgn-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
     private class BoardPanel extends JPanel {
         final List<SquarePanel> boardSquares;
 
@@ -212,4 +256,4 @@ public class Table {
         }
 
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.chess.pgn;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.List;
+import java.util.Map;
+
+public final class Game {
+    public static final int NO_ILLEGAL_PLY = -1;
+
+    private final Map<String, String> tags;
+    private final List<Move> moves;
+    private final Board finalBoard;
+    private final String result;
+    private final int halfMoveClock;
+    private final int fullMoveNumber;
+    private final int illegalPly;
+    private final String illegalMove;
+
+    Game(final Map<String, String> tags,
+         final List<Move> moves,
+         final Board finalBoard,
+         final String result,
+         final int halfMoveClock,
+         final int fullMoveNumber,
+         final int illegalPly,
+         final String illegalMove) {
+        this.tags = ImmutableMap.copyOf(tags);
+        this.moves = ImmutableList.copyOf(moves);
+        this.finalBoard = finalBoard;
+        this.result = result;
+        this.halfMoveClock = halfMoveClock;
+        this.fullMoveNumber = fullMoveNumber;
+        this.illegalPly = illegalPly;
+        this.illegalMove = illegalMove;
+    }
+
+    public Map<String, String> getTags() {
+        return this.tags;
+    }
+
+    public String getTag(final String name) {
+        return this.tags.get(name);
+    }
+
+    public List<Move> getMoves() {
+        return this.moves;
+    }
+
+    public Board getFinalBoard() {
+        return this.finalBoard;
+    }
+
+    public String getResult() {
+        return this.result;
+    }
+
+    public int getHalfMoveClock() {
+        return this.halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return this.fullMoveNumber;
+    }
+
+    public boolean isValid() {
+        return this.illegalPly == NO_ILLEGAL_PLY;
+    }
+
+    public int getIllegalPly() {
+        return this.illegalPly;
+    }
+
+    public String getIllegalMove() {
+        return this.illegalMove;
+    }
+
+    @Override
+    public String toString() {
+        final String players = this.tags.get("White") + " - " + this.tags.get("Black");
+        if (isValid()) {
+            return players + " " + this.result + " (" + this.moves.size() + " plies)";
+        }
+        return this.illegalPly == 0 ?
+                players + " " + this.illegalMove :
+                players + " illegal move " + this.illegalMove + " at ply " + this.illegalPly;
+    }
+}
@@ -0,0 +1,28 @@
+package com.chess.pgn;
+
+import java.nio.ByteBuffer;
+
+final class GameChunk {
+    private final long gameNumber;
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    GameChunk(final long gameNumber,
+              final ByteBuffer buffer,
+              final int start,
+              final int end) {
+        this.gameNumber = gameNumber;
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    long getGameNumber() {
+        return this.gameNumber;
+    }
+
+    Game parse() {
+        return PGNUtilities.parseGame(this.buffer, this.start, this.end);
+    }
+}
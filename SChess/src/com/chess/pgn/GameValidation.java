@@ -0,0 +1,91 @@
+package com.chess.pgn;
+
+import com.chess.engine.board.FenUtilities;
+
+public final class GameValidation {
+    private final long gameNumber;
+    private final String white;
+    private final String black;
+    private final String result;
+    private final int plies;
+    private final int illegalPly;
+    private final String illegalMove;
+    private final String finalFEN;
+
+    GameValidation(final long gameNumber,
+                   final String white,
+                   final String black,
+                   final String result,
+                   final int plies,
+                   final int illegalPly,
+                   final String illegalMove,
+                   final String finalFEN) {
+        this.gameNumber = gameNumber;
+        this.white = white;
+        this.black = black;
+        this.result = result;
+        this.plies = plies;
+        this.illegalPly = illegalPly;
+        this.illegalMove = illegalMove;
+        this.finalFEN = finalFEN;
+    }
+
+    static GameValidation of(final long gameNumber, final Game game) {
+        return new GameValidation(gameNumber, game.getTag("White"), game.getTag("Black"), game.getResult(),
+                game.getMoves().size(), game.getIllegalPly(), game.getIllegalMove(),
+                game.getFinalBoard() != null ?
+                        FenUtilities.createFENFromGame(game.getFinalBoard(), game.getHalfMoveClock(),
+                                game.getFullMoveNumber()) : null);
+    }
+
+    static GameValidation failed(final long gameNumber, final String reason) {
+        return new GameValidation(gameNumber, null, null, PGNUtilities.UNFINISHED, 0, 0, reason, null);
+    }
+
+    public long getGameNumber() {
+        return this.gameNumber;
+    }
+
+    public String getWhite() {
+        return this.white;
+    }
+
+    public String getBlack() {
+        return this.black;
+    }
+
+    public String getResult() {
+        return this.result;
+    }
+
+    public int getPlies() {
+        return this.plies;
+    }
+
+    public boolean isValid() {
+        return this.illegalPly == Game.NO_ILLEGAL_PLY;
+    }
+
+    public int getIllegalPly() {
+        return this.illegalPly;
+    }
+
+    public String getIllegalMove() {
+        return this.illegalMove;
+    }
+
+    public String getFinalFEN() {
+        return this.finalFEN;
+    }
+
+    @Override
+    public String toString() {
+        final String prefix = "game " + this.gameNumber + " (" + this.white + " - " + this.black + ") ";
+        if (isValid()) {
+            return prefix + this.result + " after " + this.plies + " plies: " + this.finalFEN;
+        }
+        return this.illegalPly == 0 ?
+                prefix + this.illegalMove :
+                prefix + "illegal move " + this.illegalMove + " at ply " + this.illegalPly;
+    }
+}
@@ -0,0 +1,63 @@
+package com.chess.pgn;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+final class PGNChunker implements Closeable {
+    static final long WINDOW_SIZE = 1L << 28;
+    static final int MAX_GAME_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long chunkCount;
+
+    PGNChunker(final File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.fileSize = this.channel.size();
+        this.windowStart = 0;
+        this.position = 0;
+        this.chunkCount = 0;
+        this.window = map(0);
+    }
+
+    GameChunk next() throws IOException {
+        while (this.position < this.fileSize) {
+            final long windowEnd = this.windowStart + this.window.limit();
+            if (this.position + MAX_GAME_SIZE > windowEnd && windowEnd < this.fileSize) {
+                this.window = map(this.position);
+                this.windowStart = this.position;
+            }
+            final int start = (int) (this.position - this.windowStart);
+            final int end = PGNUtilities.findNextGame(this.window, start, this.window.limit());
+            this.position = this.windowStart + end;
+            if (!PGNUtilities.isBlank(this.window, start, end)) {
+                return new GameChunk(++this.chunkCount, this.window, start, end);
+            }
+        }
+        return null;
+    }
+
+    long getFileSize() {
+        return this.fileSize;
+    }
+
+    long getPosition() {
+        return this.position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private MappedByteBuffer map(final long start) throws IOException {
+        return this.channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, this.fileSize - start));
+    }
+}
@@ -0,0 +1,45 @@
+package com.chess.pgn;
+
+import com.google.common.collect.AbstractIterator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public final class PGNReader extends AbstractIterator<Game> implements Closeable {
+    private final PGNChunker chunker;
+
+    public PGNReader(final File file) throws IOException {
+        this.chunker = new PGNChunker(file);
+    }
+
+    @Override
+    protected Game computeNext() {
+        try {
+            GameChunk chunk;
+            while ((chunk = this.chunker.next()) != null) {
+                final Game game = chunk.parse();
+                if (game != null) {
+                    return game;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return endOfData();
+    }
+
+    public long getFileSize() {
+        return this.chunker.getFileSize();
+    }
+
+    public long getPosition() {
+        return this.chunker.getPosition();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.chunker.close();
+    }
+}
@@ -0,0 +1,417 @@
+package com.chess.pgn;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.Move;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.player.MoveTransition;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class PGNUtilities {
+    private PGNUtilities() {
+        throw new RuntimeException("Cannot be instantiated");
+    }
+
+    public static final String WHITE_WINS = "1-0";
+    public static final String BLACK_WINS = "0-1";
+    public static final String DRAW = "1/2-1/2";
+    public static final String UNFINISHED = "*";
+
+    private static final String FEN_TAG = "FEN";
+    private static final String RESULT_TAG = "Result";
+
+    public static int findNextGame(final ByteBuffer buffer, final int start, final int limit) {
+        boolean seenMovetext = false;
+        boolean inComment = false;
+        boolean lineStart = true;
+        int i = start;
+        while (i < limit) {
+            final byte b = buffer.get(i);
+            if (b == '[' && lineStart && !inComment) {
+                if (seenMovetext) {
+                    return i;
+                }
+                i = skipLine(buffer, i, limit);
+                continue;
+            }
+            if (inComment) {
+                inComment = b != '}';
+            } else if (b == '{') {
+                inComment = true;
+                seenMovetext = true;
+            } else if (!isWhitespace(b)) {
+                seenMovetext = true;
+            }
+            lineStart = b == '\n' || (lineStart && isWhitespace(b));
+            i++;
+        }
+        return limit;
+    }
+
+    public static boolean isBlank(final ByteBuffer buffer, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Game parseGame(final ByteBuffer buffer, final int start, final int end) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        int i = start;
+        while (i < end) {
+            final byte b = buffer.get(i);
+            if (isWhitespace(b)) {
+                i++;
+            } else if (b == '[') {
+                i = parseTag(buffer, i, end, tags);
+            } else if (b == ';' || b == '%') {
+                i = skipLine(buffer, i, end);
+            } else {
+                break;
+            }
+        }
+        if (tags.isEmpty() && i == end) {
+            return null;
+        }
+        final String fen = tags.get(FEN_TAG);
+        Board board;
+        try {
+            board = fen != null ? FenUtilities.createGameFromFEN(fen) : Board.createStandardBoard();
+        } catch (final IllegalArgumentException e) {
+            return new Game(tags, Collections.<Move>emptyList(), null, tagResult(tags), 0, 1, 0, e.getMessage());
+        }
+        int halfMoveClock = fen != null ? FenUtilities.getHalfMoveClock(fen) : 0;
+        int fullMoveNumber = fen != null ? FenUtilities.getFullMoveNumber(fen) : 1;
+        final List<Move> moves = new ArrayList<>();
+        String result = null;
+        int illegalPly = Game.NO_ILLEGAL_PLY;
+        String illegalMove = null;
+        while (i < end) {
+            final byte b = buffer.get(i);
+            if (isWhitespace(b)) {
+                i++;
+            } else if (b == '[') {
+                i = parseTag(buffer, i, end, tags);
+            } else if (b == '{') {
+                i = skipComment(buffer, i, end);
+            } else if (b == ';' || b == '%') {
+                i = skipLine(buffer, i, end);
+            } else if (b == '(') {
+                i = skipVariation(buffer, i, end);
+            } else if (b == '$') {
+                i = skipDigits(buffer, i + 1, end);
+            } else if (b == '*') {
+                result = UNFINISHED;
+                i++;
+            } else if (b == ')') {
+                i++;
+            } else {
+                final int tokenEnd = tokenEnd(buffer, i, end);
+                final String gameResult = isDigit(b) ? matchResult(buffer, i, tokenEnd) : null;
+                if (gameResult != null) {
+                    result = gameResult;
+                    i = tokenEnd;
+                    continue;
+                }
+                if (isDigit(b) && !isCastling(buffer, i)) {
+                    i = skipMoveNumber(buffer, i, tokenEnd);
+                    continue;
+                }
+                if (illegalPly == Game.NO_ILLEGAL_PLY) {
+                    final Move move = resolveSAN(board, buffer, i, tokenEnd);
+                    final MoveTransition transition = move != Move.NULL_MOVE ?
+                            board.currentPlayer().makeMove(move) : null;
+                    if (transition != null && transition.getMoveStatus().isDone()) {
+                        halfMoveClock = move.isAttack() || move.getMovedPiece().getPieceType() == PieceType.PAWN ?
+                                0 : halfMoveClock + 1;
+                        if (board.currentPlayer().getAlliance().isBlack()) {
+                            fullMoveNumber++;
+                        }
+                        board = transition.getTransitionBoard();
+                        moves.add(move);
+                    } else {
+                        illegalPly = moves.size() + 1;
+                        illegalMove = decode(buffer, i, tokenEnd, StandardCharsets.US_ASCII);
+                    }
+                }
+                i = tokenEnd;
+            }
+        }
+        if (tags.isEmpty() && moves.isEmpty() && illegalPly == Game.NO_ILLEGAL_PLY && result == null) {
+            return null;
+        }
+        return new Game(tags, moves, board, result != null ? result : tagResult(tags),
+                halfMoveClock, fullMoveNumber, illegalPly, illegalMove);
+    }
+
+    public static Move resolveSAN(final Board board, final ByteBuffer buffer, final int start, final int end) {
+        int last = end;
+        while (last > start && isAnnotation(buffer.get(last - 1))) {
+            last--;
+        }
+        if (last == start) {
+            return Move.NULL_MOVE;
+        }
+        if (isCastling(buffer, start)) {
+            final int castleColumn = last - start >= 5 ? 2 : 6;
+            for (final Move move : board.currentPlayer().getLegalMoves()) {
+                if (move.isCastlingMove() &&
+                        move.getDestinationCoordinate() % BoardUtils.NUM_TILES_PER_ROW == castleColumn) {
+                    return move;
+                }
+            }
+            return Move.NULL_MOVE;
+        }
+        int i = start;
+        PieceType pieceType = pieceType(buffer.get(start));
+        if (pieceType != null) {
+            i++;
+        } else {
+            pieceType = PieceType.PAWN;
+        }
+        PieceType promotionType = null;
+        if (last - i > 2 && (promotionType = pieceType(toUpperCase(buffer.get(last - 1)))) != null) {
+            last--;
+            if (buffer.get(last - 1) == '=') {
+                last--;
+            }
+        }
+        if (last - i < 2) {
+            return Move.NULL_MOVE;
+        }
+        final int destinationColumn = buffer.get(last - 2) - 'a';
+        final int destinationRank = buffer.get(last - 1) - '1';
+        if (!isBoardIndex(destinationColumn) || !isBoardIndex(destinationRank)) {
+            return Move.NULL_MOVE;
+        }
+        final int destination = (BoardUtils.NUM_TILES_PER_ROW - 1 - destinationRank) * BoardUtils.NUM_TILES_PER_ROW +
+                destinationColumn;
+        int fromColumn = -1;
+        int fromRank = -1;
+        for (int j = i; j < last - 2; j++) {
+            final byte c = buffer.get(j);
+            if (c >= 'a' && c <= 'h') {
+                fromColumn = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                return Move.NULL_MOVE;
+            }
+        }
+        Move match = Move.NULL_MOVE;
+        for (final Move move : board.currentPlayer().getLegalMoves()) {
+            if (move.getDestinationCoordinate() != destination || move.isCastlingMove() ||
+                    move.getMovedPiece().getPieceType() != pieceType) {
+                continue;
+            }
+            final int from = move.getCurrentCoordinate();
+            if ((fromColumn >= 0 && from % BoardUtils.NUM_TILES_PER_ROW != fromColumn) ||
+                    (fromRank >= 0 && BoardUtils.NUM_TILES_PER_ROW - 1 - from / BoardUtils.NUM_TILES_PER_ROW != fromRank)) {
+                continue;
+            }
+            final Piece promotionPiece = move.getPromotionPiece();
+            if (promotionPiece == null ? promotionType != null : promotionPiece.getPieceType() != promotionType) {
+                continue;
+            }
+            if (match != Move.NULL_MOVE) {
+                return Move.NULL_MOVE;
+            }
+            match = move;
+        }
+        return match;
+    }
+
+    private static String tagResult(final Map<String, String> tags) {
+        return tags.containsKey(RESULT_TAG) ? tags.get(RESULT_TAG) : UNFINISHED;
+    }
+
+    private static int parseTag(final ByteBuffer buffer,
+                                final int start,
+                                final int end,
+                                final Map<String, String> tags) {
+        int i = start + 1;
+        while (i < end && isWhitespace(buffer.get(i))) {
+            i++;
+        }
+        final int nameStart = i;
+        while (i < end && !isWhitespace(buffer.get(i)) && buffer.get(i) != '"' && buffer.get(i) != ']') {
+            i++;
+        }
+        final int nameEnd = i;
+        while (i < end && buffer.get(i) != '"' && buffer.get(i) != ']') {
+            i++;
+        }
+        if (i == end || buffer.get(i) == ']') {
+            return Math.min(i + 1, end);
+        }
+        final int valueStart = ++i;
+        boolean escaped = false;
+        while (i < end && buffer.get(i) != '"') {
+            if (buffer.get(i) == '\\' && i + 1 < end) {
+                escaped = true;
+                i++;
+            }
+            i++;
+        }
+        final String value = decode(buffer, valueStart, i, StandardCharsets.UTF_8);
+        while (i < end && buffer.get(i) != ']' && buffer.get(i) != '\n') {
+            i++;
+        }
+        if (nameEnd > nameStart) {
+            tags.put(decode(buffer, nameStart, nameEnd, StandardCharsets.US_ASCII),
+                    escaped ? value.replace("\\\"", "\"").replace("\\\\", "\\") : value);
+        }
+        return Math.min(i + 1, end);
+    }
+
+    private static String matchResult(final ByteBuffer buffer, final int start, final int end) {
+        if (matches(buffer, start, end, WHITE_WINS)) {
+            return WHITE_WINS;
+        }
+        if (matches(buffer, start, end, BLACK_WINS)) {
+            return BLACK_WINS;
+        }
+        if (matches(buffer, start, end, DRAW)) {
+            return DRAW;
+        }
+        return null;
+    }
+
+    private static boolean matches(final ByteBuffer buffer, final int start, final int end, final String text) {
+        if (end - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (buffer.get(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCastling(final ByteBuffer buffer, final int start) {
+        final byte b = buffer.get(start);
+        return b == 'O' || (b == '0' && start + 2 < buffer.limit() &&
+                buffer.get(start + 1) == '-' && buffer.get(start + 2) == '0');
+    }
+
+    private static int skipMoveNumber(final ByteBuffer buffer, final int start, final int end) {
+        int i = skipDigits(buffer, start, end);
+        while (i < end && buffer.get(i) == '.') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipDigits(final ByteBuffer buffer, final int start, final int end) {
+        int i = start;
+        while (i < end && isDigit(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipLine(final ByteBuffer buffer, final int start, final int end) {
+        int i = start;
+        while (i < end && buffer.get(i) != '\n') {
+            i++;
+        }
+        return Math.min(i + 1, end);
+    }
+
+    private static int skipComment(final ByteBuffer buffer, final int start, final int end) {
+        int i = start;
+        while (i < end && buffer.get(i) != '}') {
+            i++;
+        }
+        return Math.min(i + 1, end);
+    }
+
+    private static int skipVariation(final ByteBuffer buffer, final int start, final int end) {
+        int depth = 0;
+        int i = start;
+        while (i < end) {
+            final byte b = buffer.get(i);
+            if (b == '{') {
+                i = skipComment(buffer, i, end);
+                continue;
+            }
+            if (b == '(') {
+                depth++;
+            } else if (b == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return end;
+    }
+
+    private static int tokenEnd(final ByteBuffer buffer, final int start, final int end) {
+        int i = start;
+        while (i < end && !isDelimiter(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static PieceType pieceType(final byte b) {
+        switch (b) {
+            case 'N':
+                return PieceType.KNIGHT;
+            case 'B':
+                return PieceType.BISHOP;
+            case 'R':
+                return PieceType.ROOK;
+            case 'Q':
+                return PieceType.QUEEN;
+            case 'K':
+                return PieceType.KING;
+            default:
+                return null;
+        }
+    }
+
+    private static String decode(final ByteBuffer buffer, final int start, final int end, final Charset charset) {
+        final byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, charset);
+    }
+
+    private static byte toUpperCase(final byte b) {
+        return b >= 'a' && b <= 'z' ? (byte) (b - 'a' + 'A') : b;
+    }
+
+    private static boolean isBoardIndex(final int index) {
+        return index >= 0 && index < BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    private static boolean isAnnotation(final byte b) {
+        return b == '+' || b == '#' || b == '!' || b == '?';
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isDelimiter(final byte b) {
+        return isWhitespace(b) || b == '{' || b == '(' || b == ')' || b == ';' || b == '$' || b == '[';
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
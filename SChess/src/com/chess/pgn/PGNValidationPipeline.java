@@ -0,0 +1,181 @@
+package com.chess.pgn;
+
+import com.google.common.base.Throwables;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class PGNValidationPipeline {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final GameChunk END_OF_CHUNKS = new GameChunk(0, null, 0, 0);
+    private static final GameValidation END_OF_RESULTS = GameValidation.failed(0, null);
+
+    private final File file;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final AtomicReference<Throwable> failure;
+
+    public PGNValidationPipeline(final File file, final int workerCount) {
+        this(file, workerCount, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public PGNValidationPipeline(final File file, final int workerCount, final int queueCapacity) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+        this.file = file;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.failure = new AtomicReference<>();
+    }
+
+    public PGNValidationReport validate() throws IOException, InterruptedException {
+        return validate(null);
+    }
+
+    public PGNValidationReport validate(final ValidationListener listener) throws IOException, InterruptedException {
+        final BlockingQueue<GameChunk> chunks = new ArrayBlockingQueue<>(this.queueCapacity);
+        final BlockingQueue<GameValidation> results = new ArrayBlockingQueue<>(this.queueCapacity);
+        final PGNChunker chunker = new PGNChunker(this.file);
+        final PGNValidationReport report = new PGNValidationReport();
+        final long startNanos = System.nanoTime();
+        this.failure.set(null);
+        final Thread[] threads = new Thread[this.workerCount + 1];
+        threads[0] = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                split(chunker, chunks);
+            }
+        }, "pgn-splitter");
+        for (int i = 1; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    validateChunks(chunks, results);
+                }
+            }, "pgn-validator-" + i);
+        }
+        for (final Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+        boolean finished = false;
+        try {
+            int finishedWorkers = 0;
+            while (finishedWorkers < this.workerCount) {
+                final GameValidation validation = results.take();
+                if (validation == END_OF_RESULTS) {
+                    finishedWorkers++;
+                    continue;
+                }
+                report.add(validation);
+                if (listener != null) {
+                    listener.gameValidated(validation);
+                }
+            }
+            if (this.failure.get() != null) {
+                threads[0].interrupt();
+            }
+            threads[0].join();
+            finished = true;
+        } finally {
+            if (!finished) {
+                for (final Thread thread : threads) {
+                    thread.interrupt();
+                }
+            }
+            chunker.close();
+        }
+        report.setElapsedNanos(System.nanoTime() - startNanos);
+        final Throwable failure = this.failure.get();
+        if (failure != null) {
+            Throwables.throwIfInstanceOf(failure, IOException.class);
+            Throwables.throwIfUnchecked(failure);
+            throw new IllegalStateException("PGN validation failed", failure);
+        }
+        return report;
+    }
+
+    private void split(final PGNChunker chunker, final BlockingQueue<GameChunk> chunks) {
+        try {
+            GameChunk chunk;
+            while ((chunk = chunker.next()) != null) {
+                chunks.put(chunk);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable t) {
+            this.failure.compareAndSet(null, t);
+        } finally {
+            for (int i = 0; i < this.workerCount; i++) {
+                if (!post(chunks, END_OF_CHUNKS)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void validateChunks(final BlockingQueue<GameChunk> chunks,
+                                final BlockingQueue<GameValidation> results) {
+        try {
+            GameChunk chunk;
+            while ((chunk = chunks.take()) != END_OF_CHUNKS) {
+                final GameValidation validation = validateChunk(chunk);
+                if (validation != null) {
+                    results.put(validation);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable t) {
+            this.failure.compareAndSet(null, t);
+        } finally {
+            post(results, END_OF_RESULTS);
+        }
+    }
+
+    private static <T> boolean post(final BlockingQueue<T> queue, final T sentinel) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        try {
+            queue.put(sentinel);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static GameValidation validateChunk(final GameChunk chunk) {
+        try {
+            final Game game = chunk.parse();
+            return game != null ? GameValidation.of(chunk.getGameNumber(), game) : null;
+        } catch (final RuntimeException e) {
+            return GameValidation.failed(chunk.getGameNumber(), e.getMessage());
+        }
+    }
+
+    public interface ValidationListener {
+        void gameValidated(GameValidation validation);
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Usage: PGNValidationPipeline <file.pgn> [threads]");
+            return;
+        }
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final PGNValidationReport report = new PGNValidationPipeline(new File(args[0]), threads).validate();
+        for (final GameValidation validation : report.getInvalidGames()) {
+            System.out.println(validation);
+        }
+        System.out.println(report);
+    }
+}
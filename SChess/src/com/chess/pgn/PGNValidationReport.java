@@ -0,0 +1,56 @@
+package com.chess.pgn;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PGNValidationReport {
+    private final List<GameValidation> invalidGames;
+    private long games;
+    private long plies;
+    private long elapsedNanos;
+
+    PGNValidationReport() {
+        this.invalidGames = new ArrayList<>();
+    }
+
+    void add(final GameValidation validation) {
+        this.games++;
+        this.plies += validation.getPlies();
+        if (!validation.isValid()) {
+            this.invalidGames.add(validation);
+        }
+    }
+
+    void setElapsedNanos(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return this.games;
+    }
+
+    public long getPlies() {
+        return this.plies;
+    }
+
+    public List<GameValidation> getInvalidGames() {
+        return ImmutableList.copyOf(this.invalidGames);
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return this.games * 1_000_000_000.0 / Math.max(1, this.elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (%d invalid), %d plies in %d ms, %.0f games/sec",
+                this.games, this.invalidGames.size(), this.plies, this.elapsedNanos / 1_000_000,
+                getGamesPerSecond());
+    }
+}
@@ -0,0 +1,63 @@
+package com.chess.engine.board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class FenUtilitiesTest {
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    public void roundTripsValidPositions() {
+        assertEquals(START, FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN(START)));
+        assertEquals(KIWIPETE, FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN(KIWIPETE)));
+        assertEquals("4k3/8/8/8/8/8/8/4K3 b - - 0 1",
+                FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/8/4K3 b - -")));
+    }
+
+    @Test
+    public void readsMoveClocks() {
+        final String fen = "4k3/8/8/8/8/8/8/4K3 b - - 17 42";
+        FenUtilities.createGameFromFEN(fen);
+        assertEquals(17, FenUtilities.getHalfMoveClock(fen));
+        assertEquals(42, FenUtilities.getFullMoveNumber(fen));
+        assertEquals(0, FenUtilities.getHalfMoveClock("4k3/8/8/8/8/8/8/4K3 b - -"));
+        assertEquals(1, FenUtilities.getFullMoveNumber("4k3/8/8/8/8/8/8/4K3 b - -"));
+    }
+
+    @Test
+    public void rejectsMalformedClocksAndTrailingFields() {
+        assertInvalid(START + " garbage");
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - x y");
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - -1 1");
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 0");
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0");
+    }
+
+    @Test
+    public void rejectsCastlingRightsWithoutKingAndRook() {
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBN1 w K - 0 1");
+        assertInvalid("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/1NBQKBNR w Q - 0 1");
+        assertInvalid("rnbqkbn1/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w k - 0 1");
+        assertInvalid("rnbq1bnr/ppppkppp/8/8/8/8/PPPPPPPP/RNBQKBNR w q - 0 1");
+    }
+
+    @Test
+    public void rejectsImpossiblePlacements() {
+        assertInvalid("8/8/8/8/8/8/8/8 w - - 0 1");
+        assertInvalid("4k3/8/8/8/8/8/8/2K1K3 w - - 0 1");
+        assertInvalid("P3k3/8/8/8/8/8/8/4K3 w - - 0 1");
+        assertInvalid("4k3/8/8/8/8/8/8/p3K3 b - - 0 1");
+    }
+
+    private static void assertInvalid(final String fen) {
+        try {
+            FenUtilities.createGameFromFEN(fen);
+            fail("Accepted invalid FEN: " + fen);
+        } catch (final IllegalArgumentException expected) {
+            assertEquals("Invalid FEN: " + fen, expected.getMessage());
+        }
+    }
+}
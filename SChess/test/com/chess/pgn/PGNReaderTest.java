@@ -0,0 +1,70 @@
+package com.chess.pgn;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PGNReaderTest {
+    private static final String FIRST_GAME =
+            "[White \"A\"]\n[Black \"B\"]\n[Result \"1-0\"]\n\n1. e4 e5 2. Qh5 Nc6 3. Bc4 Nf6 4. Qxf7# 1-0\n\n";
+    private static final String BAD_FEN_GAME =
+            "[White \"C\"]\n[Black \"D\"]\n[Result \"*\"]\n[FEN \"bogus\"]\n\n1. e4 *\n\n";
+    private static final String LAST_GAME =
+            "[White \"E\"]\n[Black \"F\"]\n[Result \"1/2-1/2\"]\n\n1. d4 d5 2. c4 c6 1/2-1/2\n";
+
+    @Test
+    public void invalidFENTagDoesNotStopLaterGames() throws IOException {
+        final List<Game> games = readGames(FIRST_GAME + BAD_FEN_GAME + LAST_GAME);
+        assertEquals(3, games.size());
+
+        assertTrue(games.get(0).isValid());
+        assertEquals(7, games.get(0).getMoves().size());
+
+        final Game badFENGame = games.get(1);
+        assertFalse(badFENGame.isValid());
+        assertEquals(0, badFENGame.getIllegalPly());
+        assertEquals("Invalid FEN: bogus", badFENGame.getIllegalMove());
+        assertTrue(badFENGame.getMoves().isEmpty());
+        assertNull(badFENGame.getFinalBoard());
+        assertEquals("C", badFENGame.getTag("White"));
+
+        assertTrue(games.get(2).isValid());
+        assertEquals(PGNUtilities.DRAW, games.get(2).getResult());
+        assertEquals(4, games.get(2).getMoves().size());
+    }
+
+    @Test
+    public void finalPositionContinuesTheStartingClocks() throws IOException {
+        final List<Game> games = readGames("[White \"G\"]\n[Black \"H\"]\n" +
+                "[FEN \"4k3/8/8/8/8/8/4P3/4K3 b - - 3 10\"]\n\n10... Kd7 11. Kd2 Kc6 12. e4 Kc5 *\n");
+        assertEquals(1, games.size());
+        final Game game = games.get(0);
+        assertTrue(game.isValid());
+        assertEquals(1, game.getHalfMoveClock());
+        assertEquals(13, game.getFullMoveNumber());
+        assertEquals("8/8/8/2k5/4P3/8/3K4/8 w - - 1 13", GameValidation.of(1, game).getFinalFEN());
+    }
+
+    private static List<Game> readGames(final String pgn) throws IOException {
+        final File file = File.createTempFile("reader", ".pgn");
+        file.deleteOnExit();
+        Files.write(file.toPath(), pgn.getBytes(StandardCharsets.UTF_8));
+        final List<Game> games = new ArrayList<>();
+        try (final PGNReader reader = new PGNReader(file)) {
+            while (reader.hasNext()) {
+                games.add(reader.next());
+            }
+        }
+        return games;
+    }
+}